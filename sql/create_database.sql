@@ -81,13 +81,14 @@ CREATE TABLE transactions (
 -- ===================================================================
 
 -- Suppliers indexes
-CREATE INDEX idx_suppliers_name ON suppliers(company_name);
+CREATE INDEX idx_suppliers_name ON suppliers(company_name, supplier_id);
 CREATE INDEX idx_suppliers_rating ON suppliers(rating);
+CREATE INDEX idx_suppliers_updated ON suppliers(updated_date);
 
 -- Products indexes
 CREATE INDEX idx_products_supplier ON products(supplier_id);
 CREATE INDEX idx_products_category ON products(category);
-CREATE INDEX idx_products_name ON products(product_name);
+CREATE INDEX idx_products_name ON products(product_name, product_id);
 CREATE INDEX idx_products_code ON products(product_code);
 CREATE INDEX idx_products_stock ON products(stock_quantity);
 
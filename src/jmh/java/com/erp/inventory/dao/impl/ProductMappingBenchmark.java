@@ -0,0 +1,112 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.DatabaseUtil;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading all products through ProductDAOImpl with the previous mapping,
+ * which read every column by label and stamped each new Product with the current time.
+ * Both run the same query against an in-memory H2 database.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ProductMappingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+    private static final String FIND_ALL_SQL =
+        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
+        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
+        "WHERE p.is_active = TRUE ORDER BY p.product_name";
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ProductDAOImpl productDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        DatabaseUtil.setTestConfiguration("jdbc:h2:mem:mapping" + rows + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE suppliers (supplier_id INT AUTO_INCREMENT PRIMARY KEY, " +
+                         "company_name VARCHAR(100) NOT NULL, rating DECIMAL(2,1), is_active BOOLEAN DEFAULT TRUE)");
+            stmt.execute("CREATE TABLE products (product_id INT AUTO_INCREMENT PRIMARY KEY, " +
+                         "product_name VARCHAR(100) NOT NULL, product_code VARCHAR(50) UNIQUE, " +
+                         "category VARCHAR(50) NOT NULL, description TEXT, unit_price DECIMAL(10,2) NOT NULL, " +
+                         "stock_quantity INT NOT NULL DEFAULT 0, reorder_level INT DEFAULT 10, " +
+                         "supplier_id INT NOT NULL, is_active BOOLEAN DEFAULT TRUE, " +
+                         "created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                         "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("INSERT INTO suppliers (company_name, rating) VALUES ('Benchmark Supplier', 4.5)");
+            stmt.execute("INSERT INTO products (product_name, product_code, category, description, unit_price, " +
+                         "stock_quantity, reorder_level, supplier_id) " +
+                         "SELECT 'Product ' || X, 'P-' || X, 'Category ' || MOD(X, 20), 'Description ' || X, " +
+                         "MOD(X, 1000) + 0.99, MOD(X, 500), 10, 1 FROM SYSTEM_RANGE(1, " + rows + ")");
+        }
+        productDAO = new ProductDAOImpl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public void indexedMapping(Blackhole blackhole) throws SQLException {
+        blackhole.consume(productDAO.findAll());
+    }
+
+    @Benchmark
+    public void labelMapping(Blackhole blackhole) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(mapByLabel(rs));
+            }
+        }
+    }
+
+    private static Product mapByLabel(ResultSet rs) throws SQLException {
+        Product product = new Product();
+        product.setProductId(rs.getInt("product_id"));
+        product.setProductName(rs.getString("product_name"));
+        product.setProductCode(rs.getString("product_code"));
+        product.setCategory(rs.getString("category"));
+        product.setDescription(rs.getString("description"));
+        product.setUnitPrice(rs.getBigDecimal("unit_price"));
+        product.setStockQuantity(rs.getInt("stock_quantity"));
+        product.setReorderLevel(rs.getInt("reorder_level"));
+        product.setSupplierId(rs.getInt("supplier_id"));
+        product.setSupplierName(rs.getString("supplier_name"));
+        BigDecimal supplierRating = rs.getBigDecimal("supplier_rating");
+        if (supplierRating != null) {
+            product.setSupplierRating(supplierRating);
+        }
+        product.setActive(rs.getBoolean("is_active"));
+        Timestamp createdDate = rs.getTimestamp("created_date");
+        if (createdDate != null) {
+            product.setCreatedDate(createdDate.toLocalDateTime());
+        }
+        Timestamp updatedDate = rs.getTimestamp("updated_date");
+        if (updatedDate != null) {
+            product.setUpdatedDate(updatedDate.toLocalDateTime());
+        }
+        return product;
+    }
+}
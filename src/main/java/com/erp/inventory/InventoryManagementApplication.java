@@ -39,6 +39,8 @@ public class InventoryManagementApplication {
             logger.error("Application startup failed", e);
             System.err.println("Application failed to start: " + e.getMessage());
             System.exit(1);
+        } finally {
+            DatabaseUtil.shutdown();
         }
         
         logger.info("Inventory Management System shutdown completed");
@@ -1,7 +1,9 @@
 package com.erp.inventory.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,6 +21,15 @@ public interface BaseDAO<T, ID> {
      */
     T save(T entity) throws SQLException;
     
+    /**
+     * Save new entities using JDBC batches
+     * @param entities Entities to save
+     * @return Saved entities with generated IDs
+     * @throws BatchSaveException if some entities failed; the others are saved
+     * @throws SQLException if database operation fails
+     */
+    List<T> saveAll(List<T> entities) throws SQLException;
+    
     /**
      * Update an existing entity
      * @param entity Entity to update
@@ -35,6 +46,14 @@ public interface BaseDAO<T, ID> {
      */
     Optional<T> findById(ID id) throws SQLException;
     
+    /**
+     * Find several active entities by ID in as few queries as possible
+     * @param ids Primary keys; nulls and duplicates are ignored
+     * @return Map of ID to entity; IDs that were not found are absent
+     * @throws SQLException if database operation fails
+     */
+    Map<ID, T> findAllByIds(Collection<ID> ids) throws SQLException;
+    
     /**
      * Find all active entities
      * @return List of all active entities
@@ -0,0 +1,50 @@
+package com.erp.inventory.dao;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Thrown by saveAll when some rows could not be inserted.
+ * Rows that were saved have their generated IDs assigned; failed rows keep a null ID.
+ */
+public class BatchSaveException extends SQLException {
+    private static final long serialVersionUID = 1L;
+
+    private final TreeMap<Integer, SQLException> failures;
+    private final int savedCount;
+
+    /**
+     * @param failures Failure cause for each failed row, keyed by index in the input list
+     * @param savedCount Number of rows that were inserted
+     */
+    public BatchSaveException(Map<Integer, SQLException> failures, int savedCount) {
+        this(new TreeMap<>(failures), savedCount);
+    }
+
+    private BatchSaveException(TreeMap<Integer, SQLException> failures, int savedCount) {
+        super(failures.size() + " of " + (failures.size() + savedCount) + " rows failed to save",
+              failures.isEmpty() ? null : failures.firstEntry().getValue().getSQLState(),
+              failures.isEmpty() ? null : failures.firstEntry().getValue());
+        this.failures = failures;
+        this.savedCount = savedCount;
+    }
+
+    /**
+     * Get the failure cause for each failed row
+     * @return map of input list index to the exception raised for that row
+     */
+    public SortedMap<Integer, SQLException> getFailures() {
+        return Collections.unmodifiableSortedMap(failures);
+    }
+
+    /**
+     * Get the number of rows that were inserted
+     * @return saved row count
+     */
+    public int getSavedCount() {
+        return savedCount;
+    }
+}
@@ -0,0 +1,538 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.TransactionManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache in front of a ProductDAO.
+ * Products are cached by ID and looked up by ID or product code. The cache holds at most
+ * maxSize products, evicting the least recently used, and entries optionally expire after a TTL.
+ * Every write through this DAO invalidates the products it touches; callers always get copies,
+ * so changing a returned product never changes the cached one.
+ * Existence checks trust cached entries, so a product deleted outside this DAO still exists
+ * until its entry expires, is evicted or is invalidated.
+ * List and report queries go straight to the database.
+ */
+public class CachingProductDAO implements ProductDAO {
+    private static final Logger logger = LoggerFactory.getLogger(CachingProductDAO.class);
+
+    private final ProductDAO delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Guarded by itself; access order makes iteration start at the least recently used entry
+    private final LinkedHashMap<Integer, CacheEntry> entries;
+    private final Map<String, Integer> idsByCode = new HashMap<>();
+
+    // Stamps of the loads in flight, by ID and by product code; guarded by entries.
+    // Invalidating a product removes its stamps, so a load that raced with a write is not cached.
+    private final Map<Integer, Object> loadsById = new HashMap<>();
+    private final Map<String, Object> loadsByCode = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param delegate DAO that reads and writes the database
+     * @param maxSize Most products held in the cache
+     * @param ttlMillis Time after which a cached product is reloaded, 0 to keep until evicted
+     */
+    public CachingProductDAO(ProductDAO delegate, int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000L : 0;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CacheEntry> eldest) {
+                if (size() > CachingProductDAO.this.maxSize) {
+                    idsByCode.remove(eldest.getValue().productCode);
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // ===== Cached reads =====
+
+    @Override
+    public Optional<Product> findById(Integer id) throws SQLException {
+        Product cached = getCached(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Object stamp = new Object();
+        startLoad(id, stamp);
+        try {
+            Optional<Product> product = delegate.findById(id);
+            product.ifPresent(p -> put(p, stamp, null));
+            return product.map(Product::new);
+        } finally {
+            endLoad(id, stamp);
+        }
+    }
+
+    @Override
+    public Product findByProductCode(String productCode) throws SQLException {
+        if (productCode != null) {
+            Integer id;
+            synchronized (entries) {
+                id = idsByCode.get(productCode);
+            }
+            Product cached = id != null ? getCached(id) : null;
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        if (productCode == null) {
+            return delegate.findByProductCode(null);
+        }
+        Object stamp = new Object();
+        synchronized (entries) {
+            loadsByCode.put(productCode, stamp);
+        }
+        try {
+            Product product = delegate.findByProductCode(productCode);
+            if (product == null) {
+                return null;
+            }
+            put(product, null, stamp);
+            return new Product(product);
+        } finally {
+            synchronized (entries) {
+                loadsByCode.remove(productCode, stamp);
+            }
+        }
+    }
+
+    @Override
+    public Map<Integer, Product> findAllByIds(Collection<Integer> ids) throws SQLException {
+        Map<Integer, Product> products = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+
+        for (Integer id : ids) {
+            if (id == null || products.containsKey(id)) {
+                continue;
+            }
+            Product cached = getCached(id);
+            if (cached != null) {
+                hits.increment();
+                products.put(id, cached);
+            } else {
+                misses.increment();
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Object stamp = new Object();
+            missing.forEach(id -> startLoad(id, stamp));
+            try {
+                for (Product product : delegate.findAllByIds(missing).values()) {
+                    put(product, stamp, null);
+                    products.put(product.getProductId(), new Product(product));
+                }
+            } finally {
+                missing.forEach(id -> endLoad(id, stamp));
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Answered from the cache when the product is cached, see the class comment
+     */
+    @Override
+    public boolean exists(Integer id) throws SQLException {
+        return getCached(id) != null || delegate.exists(id);
+    }
+
+    /**
+     * Answered from the cache when the product is cached, see the class comment
+     */
+    @Override
+    public boolean existsById(Integer id) throws SQLException {
+        return getCached(id) != null || delegate.existsById(id);
+    }
+
+    // ===== Writes, each invalidating what it touches =====
+
+    @Override
+    public Product save(Product product) throws SQLException {
+        try {
+            return delegate.save(product);
+        } finally {
+            invalidateSavedAfterCompletion(List.of(product));
+        }
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) throws SQLException {
+        try {
+            return delegate.saveAll(products);
+        } finally {
+            invalidateSavedAfterCompletion(products);
+        }
+    }
+
+    @Override
+    public Product update(Product product) throws SQLException {
+        invalidate(product.getProductId());
+        try {
+            return delegate.update(product);
+        } finally {
+            invalidateAfterCompletion(product.getProductId());
+        }
+    }
+
+    @Override
+    public Product update(Product product, String previousCategory) throws SQLException {
+        invalidate(product.getProductId());
+        try {
+            return delegate.update(product, previousCategory);
+        } finally {
+            invalidateAfterCompletion(product.getProductId());
+        }
+    }
+
+    @Override
+    public boolean delete(Integer id) throws SQLException {
+        invalidate(id);
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidateAfterCompletion(id);
+        }
+    }
+
+    @Override
+    public boolean delete(Integer id, String category) throws SQLException {
+        invalidate(id);
+        try {
+            return delegate.delete(id, category);
+        } finally {
+            invalidateAfterCompletion(id);
+        }
+    }
+
+    @Override
+    public boolean deleteById(Integer id) throws SQLException {
+        invalidate(id);
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            invalidateAfterCompletion(id);
+        }
+    }
+
+    @Override
+    public boolean updateStockQuantity(Integer productId, Integer newQuantity) throws SQLException {
+        invalidate(productId);
+        try {
+            return delegate.updateStockQuantity(productId, newQuantity);
+        } finally {
+            invalidateAfterCompletion(productId);
+        }
+    }
+
+    @Override
+    public Optional<Integer> adjustStock(Integer productId, int delta, int floor) throws SQLException {
+        invalidate(productId);
+        try {
+            return delegate.adjustStock(productId, delta, floor);
+        } finally {
+            invalidateAfterCompletion(productId);
+        }
+    }
+
+    // ===== Uncached queries =====
+
+    @Override
+    public List<Product> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findByName(String name) throws SQLException {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) throws SQLException {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public Page<Product> findAllPage(PageCursor after, int pageSize) throws SQLException {
+        return delegate.findAllPage(after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByNamePage(String name, PageCursor after, int pageSize) throws SQLException {
+        return delegate.findByNamePage(name, after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByCategoryPage(String category, PageCursor after, int pageSize) throws SQLException {
+        return delegate.findByCategoryPage(category, after, pageSize);
+    }
+
+    @Override
+    public List<Product> findBySupplier(Integer supplierId) throws SQLException {
+        return delegate.findBySupplier(supplierId);
+    }
+
+    @Override
+    public List<Product> getLowStockProducts() throws SQLException {
+        return delegate.getLowStockProducts();
+    }
+
+    @Override
+    public List<Product> getOutOfStockProducts() throws SQLException {
+        return delegate.getOutOfStockProducts();
+    }
+
+    @Override
+    public List<Product> getStockSummary() throws SQLException {
+        return delegate.getStockSummary();
+    }
+
+    @Override
+    public void forEachProduct(Consumer<Product> action) throws SQLException {
+        delegate.forEachProduct(action);
+    }
+
+    @Override
+    public void forEachProductCode(Consumer<String> action) throws SQLException {
+        delegate.forEachProductCode(action);
+    }
+
+    @Override
+    public List<CategoryValuation> getCategoryValuations() throws SQLException {
+        return delegate.getCategoryValuations();
+    }
+
+    @Override
+    public void forEachStockRow(Consumer<ProductStockRow> action) throws SQLException {
+        delegate.forEachStockRow(action);
+    }
+
+    @Override
+    public List<ProductStockRow> getLowStockRows() throws SQLException {
+        return delegate.getLowStockRows();
+    }
+
+    @Override
+    public List<String> getAllCategories() throws SQLException {
+        return delegate.getAllCategories();
+    }
+
+    @Override
+    public List<String> getDistinctCategories() throws SQLException {
+        return delegate.getDistinctCategories();
+    }
+
+    @Override
+    public SortedMap<String, Long> getCategoryCounts() throws SQLException {
+        return delegate.getCategoryCounts();
+    }
+
+    @Override
+    public long count() throws SQLException {
+        return delegate.count();
+    }
+
+    // ===== Cache management =====
+
+    /**
+     * Drop a product from the cache, e.g. after its stock changed outside this DAO
+     * @param productId Product ID
+     */
+    public void invalidate(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        synchronized (entries) {
+            loadsById.remove(productId);
+            CacheEntry removed = entries.remove(productId);
+            if (removed != null) {
+                idsByCode.remove(removed.productCode);
+                loadsByCode.remove(removed.productCode);
+            } else {
+                // The product's code is unknown, so no load by code may cache it
+                loadsByCode.clear();
+            }
+        }
+    }
+
+    /**
+     * Drop every cached product
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            idsByCode.clear();
+            loadsById.clear();
+            loadsByCode.clear();
+        }
+        logger.debug("Product cache cleared");
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of products dropped for space or age
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Get a copy of a fresh cached product, dropping it if it has expired
+     */
+    private Product getCached(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        synchronized (entries) {
+            CacheEntry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - entry.loadedAt > ttlNanos) {
+                entries.remove(id);
+                idsByCode.remove(entry.productCode);
+                evictions.increment();
+                return null;
+            }
+            return new Product(entry.product);
+        }
+    }
+
+    private void startLoad(Integer id, Object stamp) {
+        synchronized (entries) {
+            loadsById.put(id, stamp);
+        }
+    }
+
+    private void endLoad(Integer id, Object stamp) {
+        synchronized (entries) {
+            loadsById.remove(id, stamp);
+        }
+    }
+
+    /**
+     * Cache a loaded product unless it was invalidated since the load started
+     * @param idStamp Stamp of a load by ID, or null
+     * @param codeStamp Stamp of a load by product code, or null
+     */
+    private void put(Product product, Object idStamp, Object codeStamp) {
+        CacheEntry entry = new CacheEntry(new Product(product), System.nanoTime());
+        synchronized (entries) {
+            boolean current = idStamp != null
+                ? loadsById.get(product.getProductId()) == idStamp
+                : loadsByCode.get(entry.productCode) == codeStamp;
+            if (!current) {
+                return;
+            }
+            CacheEntry previous = entries.put(product.getProductId(), entry);
+            if (previous != null) {
+                idsByCode.remove(previous.productCode);
+            }
+            if (entry.productCode != null) {
+                idsByCode.put(entry.productCode, product.getProductId());
+            }
+        }
+    }
+
+    /**
+     * Invalidate again once the surrounding unit of work ends, so a reader that
+     * loaded the old row before the commit cannot leave it cached
+     */
+    private void invalidateAfterCompletion(Integer productId) {
+        TransactionManager.afterCompletion(() -> invalidate(productId));
+    }
+
+    /**
+     * Drop inserted products by ID and code once the surrounding unit of work ends, so a row
+     * read inside it is not left cached if it rolls back. Rows that failed to save have no ID.
+     */
+    private void invalidateSavedAfterCompletion(List<Product> products) {
+        List<Integer> ids = new ArrayList<>();
+        List<String> productCodes = new ArrayList<>();
+        for (Product product : products) {
+            if (product.getProductId() != null) {
+                ids.add(product.getProductId());
+            }
+            if (product.getProductCode() != null) {
+                productCodes.add(product.getProductCode());
+            }
+        }
+        TransactionManager.afterCompletion(() -> {
+            ids.forEach(this::invalidate);
+            productCodes.forEach(this::invalidateCode);
+        });
+    }
+
+    private void invalidateCode(String productCode) {
+        synchronized (entries) {
+            loadsByCode.remove(productCode);
+            Integer id = idsByCode.remove(productCode);
+            if (id != null) {
+                entries.remove(id);
+                loadsById.remove(id);
+            }
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Product product;
+        private final String productCode;
+        private final long loadedAt;
+
+        private CacheEntry(Product product, long loadedAt) {
+            this.product = product;
+            this.productCode = product.getProductCode();
+            this.loadedAt = loadedAt;
+        }
+    }
+}
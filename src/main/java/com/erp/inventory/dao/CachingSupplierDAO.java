@@ -0,0 +1,358 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Supplier;
+import com.erp.inventory.util.PrefixIndex;
+import com.erp.inventory.util.TransactionManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Supplier DAO that keeps every active supplier in memory.
+ * The suppliers table is small and read on every product validation, so it is
+ * loaded once and then refreshed incrementally: at most every refresh interval a
+ * max(updated_date) query checks for changes, and only rows changed since the last
+ * watermark are fetched. While the watermark has not moved, only the rows of its own
+ * second are re-read. A full reload every fullReloadMillis also catches changes
+ * that committed late with an older timestamp.
+ * Writes through this DAO update the cache as soon as the surrounding unit of work ends.
+ * Lookups by ID, listing, existence and counts are served from memory; searches go to the database.
+ */
+public class CachingSupplierDAO implements SupplierDAO {
+    private static final Logger logger = LoggerFactory.getLogger(CachingSupplierDAO.class);
+
+    // Re-read rows this far behind the watermark, for updates committed after a newer one
+    private static final long WATERMARK_OVERLAP_SECONDS = 5;
+
+    private static final Comparator<Supplier> BY_NAME =
+        Comparator.comparing(Supplier::getCompanyName, String.CASE_INSENSITIVE_ORDER)
+                  .thenComparing(Supplier::getSupplierId);
+
+    private final SupplierDAO delegate;
+    private final long refreshIntervalNanos;
+    private final long fullReloadNanos;
+
+    // Replaced as a whole on every change, so readers never lock
+    private volatile Snapshot snapshot;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private LocalDateTime watermark;
+    private volatile long lastRefreshAt;
+    private long lastFullReloadAt;
+
+    /**
+     * @param delegate DAO that reads and writes the database
+     * @param refreshIntervalMillis Shortest time between change checks
+     * @param fullReloadMillis Time between full reloads, 0 to never reload fully
+     */
+    public CachingSupplierDAO(SupplierDAO delegate, long refreshIntervalMillis, long fullReloadMillis) {
+        this.delegate = delegate;
+        this.refreshIntervalNanos = Math.max(0, refreshIntervalMillis) * 1_000_000L;
+        this.fullReloadNanos = Math.max(0, fullReloadMillis) * 1_000_000L;
+    }
+
+    // ===== In-memory reads =====
+
+    @Override
+    public Optional<Supplier> findById(Integer id) throws SQLException {
+        Supplier supplier = currentSnapshot().byId.get(id);
+        return supplier != null ? Optional.of(new Supplier(supplier)) : Optional.empty();
+    }
+
+    @Override
+    public Map<Integer, Supplier> findAllByIds(Collection<Integer> ids) throws SQLException {
+        Map<Integer, Supplier> cached = currentSnapshot().byId;
+        Map<Integer, Supplier> suppliers = new HashMap<>();
+        for (Integer id : ids) {
+            Supplier supplier = id != null ? cached.get(id) : null;
+            if (supplier != null) {
+                suppliers.put(id, new Supplier(supplier));
+            }
+        }
+        return suppliers;
+    }
+
+    @Override
+    public List<Supplier> findAll() throws SQLException {
+        List<Supplier> sorted = currentSnapshot().sortedByName;
+        List<Supplier> suppliers = new ArrayList<>(sorted.size());
+        for (Supplier supplier : sorted) {
+            suppliers.add(new Supplier(supplier));
+        }
+        return suppliers;
+    }
+
+    @Override
+    public boolean exists(Integer id) throws SQLException {
+        return currentSnapshot().byId.containsKey(id);
+    }
+
+    @Override
+    public long count() throws SQLException {
+        return currentSnapshot().byId.size();
+    }
+
+    /**
+     * Get a supplier's company name without copying the supplier
+     * @param supplierId Supplier ID
+     * @return company name, or null if the supplier is unknown or inactive
+     * @throws SQLException if the initial load fails
+     */
+    public String getCompanyName(Integer supplierId) throws SQLException {
+        Supplier supplier = currentSnapshot().byId.get(supplierId);
+        return supplier != null ? supplier.getCompanyName() : null;
+    }
+
+    /**
+     * Complete a company name prefix from memory
+     * @param prefix Start of a company name
+     * @param limit Maximum number of completions
+     * @return completions in name order, with supplier IDs
+     * @throws SQLException if the initial load fails
+     */
+    public List<PrefixIndex.Completion> completeCompanyName(String prefix, int limit) throws SQLException {
+        return currentSnapshot().names.complete(prefix, limit);
+    }
+
+    // ===== Writes =====
+
+    @Override
+    public Supplier save(Supplier supplier) throws SQLException {
+        Supplier saved = delegate.save(supplier);
+        reloadAfterCompletion(List.of(saved.getSupplierId()));
+        return saved;
+    }
+
+    @Override
+    public List<Supplier> saveAll(List<Supplier> suppliers) throws SQLException {
+        try {
+            return delegate.saveAll(suppliers);
+        } finally {
+            List<Integer> ids = new ArrayList<>();
+            for (Supplier supplier : suppliers) {
+                if (supplier.getSupplierId() != null) {
+                    ids.add(supplier.getSupplierId());
+                }
+            }
+            reloadAfterCompletion(ids);
+        }
+    }
+
+    @Override
+    public Supplier update(Supplier supplier) throws SQLException {
+        try {
+            return delegate.update(supplier);
+        } finally {
+            reloadAfterCompletion(List.of(supplier.getSupplierId()));
+        }
+    }
+
+    @Override
+    public boolean delete(Integer id) throws SQLException {
+        try {
+            return delegate.delete(id);
+        } finally {
+            reloadAfterCompletion(List.of(id));
+        }
+    }
+
+    // ===== Database queries =====
+
+    @Override
+    public List<Supplier> findByName(String name) throws SQLException {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Page<Supplier> findAllPage(PageCursor after, int pageSize) throws SQLException {
+        return delegate.findAllPage(after, pageSize);
+    }
+
+    @Override
+    public Supplier findByEmail(String email) throws SQLException {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Supplier> findByRatingRange(double minRating, double maxRating) throws SQLException {
+        return delegate.findByRatingRange(minRating, maxRating);
+    }
+
+    @Override
+    public List<Supplier> getTopSuppliers(int limit) throws SQLException {
+        return delegate.getTopSuppliers(limit);
+    }
+
+    @Override
+    public boolean hasProducts(Integer supplierId) throws SQLException {
+        return delegate.hasProducts(supplierId);
+    }
+
+    @Override
+    public List<Supplier> findUpdatedSince(LocalDateTime since) throws SQLException {
+        return delegate.findUpdatedSince(since);
+    }
+
+    @Override
+    public Optional<LocalDateTime> getMaxUpdatedDate() throws SQLException {
+        return delegate.getMaxUpdatedDate();
+    }
+
+    // ===== Cache maintenance =====
+
+    /**
+     * Check for supplier changes now instead of waiting for the refresh interval
+     * @throws SQLException if database operation fails
+     */
+    public void refresh() throws SQLException {
+        refreshLock.lock();
+        try {
+            refreshLocked();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Get the snapshot, loading it on first use and refreshing it when due.
+     * Only one thread refreshes; the others keep reading the current snapshot.
+     */
+    private Snapshot currentSnapshot() throws SQLException {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            return snapshot;
+        }
+
+        if (System.nanoTime() - lastRefreshAt >= refreshIntervalNanos && refreshLock.tryLock()) {
+            try {
+                refreshLocked();
+            } catch (SQLException e) {
+                logger.warn("Supplier cache refresh failed, serving cached suppliers: {}", e.getMessage());
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    private void refreshLocked() throws SQLException {
+        long now = System.nanoTime();
+
+        if (snapshot == null || (fullReloadNanos > 0 && now - lastFullReloadAt >= fullReloadNanos)) {
+            Optional<LocalDateTime> maxUpdated = delegate.getMaxUpdatedDate();
+            Map<Integer, Supplier> byId = new HashMap<>();
+            for (Supplier supplier : delegate.findUpdatedSince(null)) {
+                if (supplier.isActive()) {
+                    byId.put(supplier.getSupplierId(), supplier);
+                }
+            }
+            snapshot = new Snapshot(byId);
+            watermark = maxUpdated.orElse(null);
+            lastFullReloadAt = now;
+            lastRefreshAt = now;
+            logger.info("Supplier cache loaded with {} suppliers", byId.size());
+            return;
+        }
+
+        lastRefreshAt = now;
+        Optional<LocalDateTime> maxUpdated = delegate.getMaxUpdatedDate();
+        if (!maxUpdated.isPresent()) {
+            return;
+        }
+
+        // updated_date has second precision, so another write within the watermark's second
+        // leaves the max unchanged; re-read that second's rows instead of skipping them
+        LocalDateTime since;
+        if (watermark == null) {
+            since = null;
+        } else if (maxUpdated.get().isAfter(watermark)) {
+            since = watermark.minusSeconds(WATERMARK_OVERLAP_SECONDS);
+        } else {
+            since = watermark;
+        }
+        List<Supplier> changed = delegate.findUpdatedSince(since);
+        apply(changed);
+        watermark = maxUpdated.get();
+        logger.debug("Supplier cache refreshed with {} changed suppliers", changed.size());
+    }
+
+    /**
+     * Put active suppliers into the snapshot and drop inactive ones
+     */
+    private void apply(Collection<Supplier> changed) {
+        Map<Integer, Supplier> byId = new HashMap<>(snapshot.byId);
+        for (Supplier supplier : changed) {
+            if (supplier.isActive()) {
+                byId.put(supplier.getSupplierId(), supplier);
+            } else {
+                byId.remove(supplier.getSupplierId());
+            }
+        }
+        snapshot = new Snapshot(byId);
+    }
+
+    /**
+     * Re-read written suppliers once the surrounding unit of work ends
+     */
+    private void reloadAfterCompletion(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionManager.afterCompletion(() -> {
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    return;
+                }
+                Map<Integer, Supplier> active = delegate.findAllByIds(ids);
+                Map<Integer, Supplier> byId = new HashMap<>(snapshot.byId);
+                for (Integer id : ids) {
+                    Supplier supplier = active.get(id);
+                    if (supplier != null) {
+                        byId.put(id, supplier);
+                    } else {
+                        byId.remove(id);
+                    }
+                }
+                snapshot = new Snapshot(byId);
+            } catch (SQLException e) {
+                // Fall back to a full reload on the next read
+                logger.warn("Could not reload written suppliers, cache will be rebuilt: {}", e.getMessage());
+                snapshot = null;
+            } finally {
+                refreshLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Immutable view of the cached suppliers
+     */
+    private static final class Snapshot {
+        private final Map<Integer, Supplier> byId;
+        private final List<Supplier> sortedByName;
+        private final PrefixIndex names;
+
+        private Snapshot(Map<Integer, Supplier> byId) {
+            this.byId = Collections.unmodifiableMap(byId);
+            List<Supplier> sorted = new ArrayList<>(byId.values());
+            sorted.sort(BY_NAME);
+            this.sortedByName = Collections.unmodifiableList(sorted);
+            Map<Integer, String> companyNames = new HashMap<>();
+            byId.forEach((id, supplier) -> companyNames.put(id, supplier.getCompanyName()));
+            this.names = PrefixIndex.build(companyNames);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.TransactionManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ProductDAO that keeps the category list in memory.
+ * Each category holds a count of the active products in it. Saves, updates and deletes
+ * through this DAO adjust the counts once they commit, and a category disappears when its
+ * count reaches zero. Updates and deletes take the previous category from the caller; when
+ * it is unknown the counts are reloaded on next use instead.
+ * Writes that bypass this DAO are corrected by a periodic background resync,
+ * which reads one GROUP BY row per category.
+ * Listing categories never queries the database after the first load.
+ */
+public class CategoryCachingProductDAO implements ProductDAO {
+    private static final Logger logger = LoggerFactory.getLogger(CategoryCachingProductDAO.class);
+
+    private final ProductDAO delegate;
+    private final ScheduledExecutorService resyncExecutor;
+
+    // Guarded by this; null until the first load
+    private SortedMap<String, Long> counts;
+    private List<String> categories;
+
+    // Bumped on every write, so a resync that raced with one does not overwrite it
+    private long writeCount;
+
+    /**
+     * @param delegate DAO that reads and writes the database
+     * @param resyncIntervalMillis Time between background resyncs, 0 to never resync
+     */
+    public CategoryCachingProductDAO(ProductDAO delegate, long resyncIntervalMillis) {
+        this.delegate = delegate;
+        if (resyncIntervalMillis > 0) {
+            this.resyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "category-resync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            resyncExecutor.scheduleWithFixedDelay(this::resyncQuietly, resyncIntervalMillis,
+                                                  resyncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.resyncExecutor = null;
+        }
+    }
+
+    // ===== Cached category reads =====
+
+    @Override
+    public List<String> getAllCategories() throws SQLException {
+        return getDistinctCategories();
+    }
+
+    @Override
+    public List<String> getDistinctCategories() throws SQLException {
+        synchronized (this) {
+            if (counts != null) {
+                return categories;
+            }
+        }
+        return listOf(load());
+    }
+
+    @Override
+    public SortedMap<String, Long> getCategoryCounts() throws SQLException {
+        synchronized (this) {
+            if (counts != null) {
+                return new TreeMap<>(counts);
+            }
+        }
+        return load();
+    }
+
+    // ===== Writes, each adjusting the counts =====
+
+    @Override
+    public Product save(Product product) throws SQLException {
+        Product saved = delegate.save(product);
+        changeCountAfterCommit(saved.getCategory(), 1);
+        return saved;
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) throws SQLException {
+        try {
+            List<Product> saved = delegate.saveAll(products);
+            for (Product product : saved) {
+                changeCountAfterCommit(product.getCategory(), 1);
+            }
+            return saved;
+        } catch (BatchSaveException e) {
+            // Rows that failed keep no ID
+            for (Product product : products) {
+                if (product.getProductId() != null) {
+                    changeCountAfterCommit(product.getCategory(), 1);
+                }
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Product update(Product product) throws SQLException {
+        return update(product, null);
+    }
+
+    @Override
+    public Product update(Product product, String previousCategory) throws SQLException {
+        Product updated = delegate.update(product, previousCategory);
+        if (previousCategory == null) {
+            TransactionManager.afterCommit(this::dropCounts);
+        } else if (!previousCategory.equals(updated.getCategory())) {
+            changeCountAfterCommit(previousCategory, -1);
+            changeCountAfterCommit(updated.getCategory(), 1);
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean delete(Integer id) throws SQLException {
+        return delete(id, null);
+    }
+
+    @Override
+    public boolean delete(Integer id, String category) throws SQLException {
+        boolean deleted = delegate.delete(id, category);
+        if (deleted && category == null) {
+            TransactionManager.afterCommit(this::dropCounts);
+        } else if (deleted) {
+            changeCountAfterCommit(category, -1);
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteById(Integer id) throws SQLException {
+        return delete(id);
+    }
+
+    // ===== Everything else goes to the delegate =====
+
+    @Override
+    public Optional<Product> findById(Integer id) throws SQLException {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<Integer, Product> findAllByIds(Collection<Integer> ids) throws SQLException {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Product> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public boolean exists(Integer id) throws SQLException {
+        return delegate.exists(id);
+    }
+
+    @Override
+    public long count() throws SQLException {
+        return delegate.count();
+    }
+
+    @Override
+    public List<Product> findByName(String name) throws SQLException {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) throws SQLException {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public Page<Product> findAllPage(PageCursor after, int pageSize) throws SQLException {
+        return delegate.findAllPage(after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByNamePage(String name, PageCursor after, int pageSize) throws SQLException {
+        return delegate.findByNamePage(name, after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByCategoryPage(String category, PageCursor after, int pageSize) throws SQLException {
+        return delegate.findByCategoryPage(category, after, pageSize);
+    }
+
+    @Override
+    public List<Product> findBySupplier(Integer supplierId) throws SQLException {
+        return delegate.findBySupplier(supplierId);
+    }
+
+    @Override
+    public Product findByProductCode(String productCode) throws SQLException {
+        return delegate.findByProductCode(productCode);
+    }
+
+    @Override
+    public List<Product> getLowStockProducts() throws SQLException {
+        return delegate.getLowStockProducts();
+    }
+
+    @Override
+    public List<Product> getOutOfStockProducts() throws SQLException {
+        return delegate.getOutOfStockProducts();
+    }
+
+    @Override
+    public List<Product> getStockSummary() throws SQLException {
+        return delegate.getStockSummary();
+    }
+
+    @Override
+    public void forEachProduct(Consumer<Product> action) throws SQLException {
+        delegate.forEachProduct(action);
+    }
+
+    @Override
+    public void forEachProductCode(Consumer<String> action) throws SQLException {
+        delegate.forEachProductCode(action);
+    }
+
+    @Override
+    public List<CategoryValuation> getCategoryValuations() throws SQLException {
+        return delegate.getCategoryValuations();
+    }
+
+    @Override
+    public void forEachStockRow(Consumer<ProductStockRow> action) throws SQLException {
+        delegate.forEachStockRow(action);
+    }
+
+    @Override
+    public List<ProductStockRow> getLowStockRows() throws SQLException {
+        return delegate.getLowStockRows();
+    }
+
+    @Override
+    public boolean existsById(Integer id) throws SQLException {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean updateStockQuantity(Integer productId, Integer newQuantity) throws SQLException {
+        return delegate.updateStockQuantity(productId, newQuantity);
+    }
+
+    @Override
+    public Optional<Integer> adjustStock(Integer productId, int delta, int floor) throws SQLException {
+        return delegate.adjustStock(productId, delta, floor);
+    }
+
+    // ===== Cache maintenance =====
+
+    /**
+     * Reload the category counts from the database.
+     * The result is dropped if a write went through this DAO while the counts were read,
+     * since it may or may not include that write; the next resync tries again.
+     * @throws SQLException if database operation fails
+     */
+    public void resync() throws SQLException {
+        load();
+    }
+
+    /**
+     * Stop the background resync
+     */
+    public void shutdown() {
+        if (resyncExecutor != null) {
+            resyncExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reload the category counts, keeping them only if no write raced with the read
+     * @return the loaded counts, or the current ones if they were kept
+     */
+    private SortedMap<String, Long> load() throws SQLException {
+        long writesAtStart;
+        synchronized (this) {
+            writesAtStart = writeCount;
+        }
+
+        SortedMap<String, Long> loaded = delegate.getCategoryCounts();
+
+        synchronized (this) {
+            if (writeCount != writesAtStart) {
+                logger.debug("Category resync raced with a write, keeping incremental counts");
+                return counts != null ? new TreeMap<>(counts) : loaded;
+            }
+            if (counts != null && !counts.equals(loaded)) {
+                logger.info("Category counts drifted, resynced {} categories", loaded.size());
+            }
+            counts = loaded;
+            categories = listOf(loaded);
+            return new TreeMap<>(loaded);
+        }
+    }
+
+    private void resyncQuietly() {
+        try {
+            resync();
+        } catch (SQLException e) {
+            logger.warn("Category resync failed, keeping cached categories: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Category resync failed", e);
+        }
+    }
+
+    /**
+     * Adjust a count once the current unit of work commits; nothing changes on rollback
+     */
+    private void changeCountAfterCommit(String category, long delta) {
+        TransactionManager.afterCommit(() -> changeCount(category, delta));
+    }
+
+    private synchronized void dropCounts() {
+        writeCount++;
+        counts = null;
+        categories = null;
+    }
+
+    private synchronized void changeCount(String category, long delta) {
+        writeCount++;
+        if (counts == null || category == null) {
+            return;
+        }
+
+        long count = counts.getOrDefault(category, 0L) + delta;
+        boolean listChanged;
+        if (count > 0) {
+            listChanged = counts.put(category, count) == null;
+        } else {
+            listChanged = counts.remove(category) != null;
+        }
+        if (listChanged) {
+            categories = listOf(counts);
+        }
+    }
+
+    private static List<String> listOf(SortedMap<String, Long> counts) {
+        return Collections.unmodifiableList(new ArrayList<>(counts.keySet()));
+    }
+}
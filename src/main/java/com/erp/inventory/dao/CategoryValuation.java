@@ -0,0 +1,71 @@
+package com.erp.inventory.dao;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Stock totals of one product category, as aggregated by the database
+ */
+public final class CategoryValuation {
+    private final String category;
+    private final long itemCount;
+    private final long totalUnits;
+    private final BigDecimal totalValue;
+
+    public CategoryValuation(String category, long itemCount, long totalUnits, BigDecimal totalValue) {
+        this.category = category;
+        this.itemCount = itemCount;
+        this.totalUnits = totalUnits;
+        this.totalValue = totalValue;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Get the number of active products in the category
+     * @return product count
+     */
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public long getTotalUnits() {
+        return totalUnits;
+    }
+
+    /**
+     * Get the value of the category's stock
+     * @return sum of unit price times stock quantity
+     */
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CategoryValuation that = (CategoryValuation) o;
+        return itemCount == that.itemCount &&
+               totalUnits == that.totalUnits &&
+               Objects.equals(category, that.category) &&
+               Objects.equals(totalValue, that.totalValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, itemCount, totalUnits, totalValue);
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryValuation{" +
+                "category='" + category + '\'' +
+                ", itemCount=" + itemCount +
+                ", totalUnits=" + totalUnits +
+                ", totalValue=" + totalValue +
+                '}';
+    }
+}
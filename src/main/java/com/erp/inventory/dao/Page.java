@@ -0,0 +1,46 @@
+package com.erp.inventory.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of results from a keyset-paginated query
+ * @param <T> Entity type
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    /**
+     * @param items Rows on this page
+     * @param nextCursor Cursor for the following page, null if this is the last page
+     */
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Get cursor to pass to the next page request
+     * @return cursor, or null if there are no more rows
+     */
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,48 @@
+package com.erp.inventory.dao;
+
+import java.util.Objects;
+
+/**
+ * Position of the last row of a page in keyset (seek) pagination.
+ * Holds the sort key and the primary key of that row; the next page
+ * starts strictly after it, so deep pages cost the same as the first one.
+ */
+public final class PageCursor {
+    private final String sortKey;
+    private final Integer id;
+
+    public PageCursor(String sortKey, Integer id) {
+        this.sortKey = Objects.requireNonNull(sortKey, "sortKey");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PageCursor that = (PageCursor) o;
+        return Objects.equals(sortKey, that.sortKey) &&
+               Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, id);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" +
+                "sortKey='" + sortKey + '\'' +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -4,6 +4,9 @@ import com.erp.inventory.model.Product;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Consumer;
 
 /**
  * DAO interface for Product entity operations
@@ -26,6 +29,35 @@ public interface ProductDAO extends BaseDAO<Product, Integer> {
      */
     List<Product> findByCategory(String category) throws SQLException;
     
+    /**
+     * Get one page of active products ordered by (product_name, product_id)
+     * @param after Cursor returned with the previous page, null for the first page
+     * @param pageSize Maximum number of products on the page
+     * @return Page of products with the cursor for the next page
+     * @throws SQLException if database operation fails
+     */
+    Page<Product> findAllPage(PageCursor after, int pageSize) throws SQLException;
+    
+    /**
+     * Get one page of products matching a name (partial match)
+     * @param name Product name or partial name
+     * @param after Cursor returned with the previous page, null for the first page
+     * @param pageSize Maximum number of products on the page
+     * @return Page of matching products with the cursor for the next page
+     * @throws SQLException if database operation fails
+     */
+    Page<Product> findByNamePage(String name, PageCursor after, int pageSize) throws SQLException;
+    
+    /**
+     * Get one page of products in a category
+     * @param category Product category
+     * @param after Cursor returned with the previous page, null for the first page
+     * @param pageSize Maximum number of products on the page
+     * @return Page of products in the category with the cursor for the next page
+     * @throws SQLException if database operation fails
+     */
+    Page<Product> findByCategoryPage(String category, PageCursor after, int pageSize) throws SQLException;
+    
     /**
      * Find products by supplier
      * @param supplierId Supplier ID
@@ -63,6 +95,39 @@ public interface ProductDAO extends BaseDAO<Product, Integer> {
      */
     List<Product> getStockSummary() throws SQLException;
     
+    /**
+     * Stream all active products (with supplier info) one row at a time.
+     * Rows are fetched in chunks and mapped as they arrive, so memory use does not
+     * grow with the catalog size. The action must not run other queries: on MySQL
+     * the connection is busy until the stream has been fully read.
+     * @param action Callback invoked for each product, ordered by product name
+     * @throws SQLException if database operation fails
+     */
+    void forEachProduct(Consumer<Product> action) throws SQLException;
+    
+    /**
+     * Stream the product codes of all active products.
+     * Same streaming rules as forEachProduct.
+     * @param action Callback invoked for each non-null product code, in no particular order
+     * @throws SQLException if database operation fails
+     */
+    void forEachProductCode(Consumer<String> action) throws SQLException;
+    
+    /**
+     * Stream the stock report columns of all active products.
+     * Same streaming rules as forEachProduct, but reads only the columns in ProductStockRow.
+     * @param action Callback invoked for each product, ordered by product name
+     * @throws SQLException if database operation fails
+     */
+    void forEachStockRow(Consumer<ProductStockRow> action) throws SQLException;
+    
+    /**
+     * Get the stock report columns of products at or below their reorder level
+     * @return Rows ordered by shortage, largest first
+     * @throws SQLException if database operation fails
+     */
+    List<ProductStockRow> getLowStockRows() throws SQLException;
+    
     /**
      * Get all categories
      * @return List of distinct categories
@@ -77,6 +142,21 @@ public interface ProductDAO extends BaseDAO<Product, Integer> {
      */
     List<String> getDistinctCategories() throws SQLException;
     
+    /**
+     * Count active products per category
+     * @return Map of category to number of active products, sorted by category
+     * @throws SQLException if database operation fails
+     */
+    SortedMap<String, Long> getCategoryCounts() throws SQLException;
+    
+    /**
+     * Get the item count, total units and total stock value of each category,
+     * aggregated by the database
+     * @return One valuation per category, ordered by category
+     * @throws SQLException if database operation fails
+     */
+    List<CategoryValuation> getCategoryValuations() throws SQLException;
+    
     /**
      * Delete by ID (alias for BaseDAO delete method)
      * @param id Primary key
@@ -85,6 +165,30 @@ public interface ProductDAO extends BaseDAO<Product, Integer> {
      */
     boolean deleteById(Integer id) throws SQLException;
     
+    /**
+     * Update a product the caller has already read, passing the category it was read with
+     * so that caching DAOs need not read it again
+     * @param product Product to update
+     * @param previousCategory Category before the update, null if unknown
+     * @return Updated product
+     * @throws SQLException if database operation fails
+     */
+    default Product update(Product product, String previousCategory) throws SQLException {
+        return update(product);
+    }
+    
+    /**
+     * Soft delete a product the caller has already read, passing its category
+     * so that caching DAOs need not read it again
+     * @param id Primary key
+     * @param category Category of the product, null if unknown
+     * @return true if deleted successfully, false otherwise
+     * @throws SQLException if database operation fails
+     */
+    default boolean delete(Integer id, String category) throws SQLException {
+        return delete(id);
+    }
+    
     /**
      * Check if exists by ID (alias for BaseDAO exists method)
      * @param id Primary key
@@ -101,4 +205,15 @@ public interface ProductDAO extends BaseDAO<Product, Integer> {
      * @throws SQLException if database operation fails
      */
     boolean updateStockQuantity(Integer productId, Integer newQuantity) throws SQLException;
+    
+    /**
+     * Atomically add a delta to the stock quantity, unless the result would fall below a floor
+     * @param productId Product ID
+     * @param delta Quantity to add, negative to remove stock
+     * @param floor Lowest stock quantity allowed after the change
+     * @return Optional containing the new stock quantity, empty if the product was not found
+     *         or the change would take stock below the floor
+     * @throws SQLException if database operation fails
+     */
+    Optional<Integer> adjustStock(Integer productId, int delta, int floor) throws SQLException;
 }
\ No newline at end of file
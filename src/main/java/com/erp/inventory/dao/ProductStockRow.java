@@ -0,0 +1,149 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Money;
+import com.erp.inventory.model.Product;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Read-only projection of a product with just the columns stock reports use.
+ * Skips the description, timestamps and supplier rating that a full Product carries,
+ * and keeps the price in cents so report totals need no BigDecimal per row.
+ */
+public final class ProductStockRow {
+    private final int productId;
+    private final String productName;
+    private final String productCode;
+    private final String category;
+    private final long unitPriceCents;
+    private final int stockQuantity;
+    private final int reorderLevel;
+    private final int supplierId;
+    private final String supplierName;
+
+    public ProductStockRow(int productId, String productName, String productCode, String category,
+                           long unitPriceCents, int stockQuantity, int reorderLevel,
+                           int supplierId, String supplierName) {
+        this.productId = productId;
+        this.productName = productName;
+        this.productCode = productCode;
+        this.category = category;
+        this.unitPriceCents = unitPriceCents;
+        this.stockQuantity = stockQuantity;
+        this.reorderLevel = reorderLevel;
+        this.supplierId = supplierId;
+        this.supplierName = supplierName;
+    }
+
+    /**
+     * Project a loaded product onto its stock report columns
+     * @param product Product with ID and supplier set
+     * @return stock row
+     */
+    public static ProductStockRow of(Product product) {
+        return new ProductStockRow(product.getProductId(), product.getProductName(), product.getProductCode(),
+                                   product.getCategory(), product.getUnitPriceCents(),
+                                   product.getStockQuantity() != null ? product.getStockQuantity() : 0,
+                                   product.getReorderLevel() != null ? product.getReorderLevel() : 0,
+                                   product.getSupplierId() != null ? product.getSupplierId() : 0,
+                                   product.getSupplierName());
+    }
+
+    public int getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return Money.toBigDecimal(unitPriceCents);
+    }
+
+    public long getUnitPriceCents() {
+        return unitPriceCents;
+    }
+
+    public int getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public int getReorderLevel() {
+        return reorderLevel;
+    }
+
+    public int getSupplierId() {
+        return supplierId;
+    }
+
+    /**
+     * Get the supplier's company name
+     * @return company name, or null if the supplier is unknown
+     */
+    public String getSupplierName() {
+        return supplierName;
+    }
+
+    /**
+     * Get the value of the stock on hand
+     * @return unit price times stock quantity
+     */
+    public BigDecimal getStockValue() {
+        return Money.toBigDecimal(getStockValueCents());
+    }
+
+    /**
+     * Get the value of the stock on hand in cents
+     * @return unit price times stock quantity, in cents
+     * @throws ArithmeticException on overflow
+     */
+    public long getStockValueCents() {
+        return Money.multiplyCents(unitPriceCents, stockQuantity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductStockRow that = (ProductStockRow) o;
+        return productId == that.productId &&
+               unitPriceCents == that.unitPriceCents &&
+               stockQuantity == that.stockQuantity &&
+               reorderLevel == that.reorderLevel &&
+               supplierId == that.supplierId &&
+               Objects.equals(productName, that.productName) &&
+               Objects.equals(productCode, that.productCode) &&
+               Objects.equals(category, that.category) &&
+               Objects.equals(supplierName, that.supplierName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, productName, productCode, category, unitPriceCents,
+                            stockQuantity, reorderLevel, supplierId, supplierName);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductStockRow{" +
+                "productId=" + productId +
+                ", productName='" + productName + '\'' +
+                ", productCode='" + productCode + '\'' +
+                ", category='" + category + '\'' +
+                ", unitPrice=" + getUnitPrice() +
+                ", stockQuantity=" + stockQuantity +
+                ", reorderLevel=" + reorderLevel +
+                ", supplierName='" + supplierName + '\'' +
+                '}';
+    }
+}
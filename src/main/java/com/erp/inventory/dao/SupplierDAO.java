@@ -3,7 +3,9 @@ package com.erp.inventory.dao;
 import com.erp.inventory.model.Supplier;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * DAO interface for Supplier entity operations
@@ -18,6 +20,15 @@ public interface SupplierDAO extends BaseDAO<Supplier, Integer> {
      */
     List<Supplier> findByName(String name) throws SQLException;
     
+    /**
+     * Get one page of active suppliers ordered by (company_name, supplier_id)
+     * @param after Cursor returned with the previous page, null for the first page
+     * @param pageSize Maximum number of suppliers on the page
+     * @return Page of suppliers with the cursor for the next page
+     * @throws SQLException if database operation fails
+     */
+    Page<Supplier> findAllPage(PageCursor after, int pageSize) throws SQLException;
+    
     /**
      * Find supplier by email
      * @param email Supplier email
@@ -50,4 +61,19 @@ public interface SupplierDAO extends BaseDAO<Supplier, Integer> {
      * @throws SQLException if database operation fails
      */
     boolean hasProducts(Integer supplierId) throws SQLException;
-}
\ No newline at end of file
+    
+    /**
+     * Find suppliers changed at or after a point in time, including deactivated ones
+     * @param since Lower bound on updated_date, or null for every supplier
+     * @return List of changed suppliers
+     * @throws SQLException if database operation fails
+     */
+    List<Supplier> findUpdatedSince(LocalDateTime since) throws SQLException;
+    
+    /**
+     * Get the latest updated_date across all suppliers
+     * @return Optional containing the latest change time, empty if there are no suppliers
+     * @throws SQLException if database operation fails
+     */
+    Optional<LocalDateTime> getMaxUpdatedDate() throws SQLException;
+}
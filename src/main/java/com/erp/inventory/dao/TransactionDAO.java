@@ -0,0 +1,63 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Transaction;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DAO interface for inventory transaction (ledger) operations.
+ * Transactions are append-only; stock levels are updated by the database triggers on insert.
+ */
+public interface TransactionDAO {
+    
+    /**
+     * Queue a transaction for insertion.
+     * Concurrent calls are grouped and committed together, so the future completes
+     * only after the transaction is durable.
+     * @param transaction Transaction to record
+     * @return Future completing with the generated ID and resulting stock level, or
+     *         exceptionally with an SQLException if the transaction was rejected
+     */
+    CompletableFuture<TransactionReceipt> record(Transaction transaction);
+    
+    /**
+     * Find transaction by ID
+     * @param id Transaction ID
+     * @return Optional containing transaction if found, empty otherwise
+     * @throws SQLException if database operation fails
+     */
+    Optional<Transaction> findById(Integer id) throws SQLException;
+    
+    /**
+     * Find the most recent transactions
+     * @param limit Maximum number of transactions
+     * @return List of transactions, newest first
+     * @throws SQLException if database operation fails
+     */
+    List<Transaction> findRecent(int limit) throws SQLException;
+    
+    /**
+     * Find the most recent transactions for a product
+     * @param productId Product ID
+     * @param limit Maximum number of transactions
+     * @return List of transactions, newest first
+     * @throws SQLException if database operation fails
+     */
+    List<Transaction> findByProduct(Integer productId, int limit) throws SQLException;
+    
+    /**
+     * Count all transactions
+     * @return Number of transactions
+     * @throws SQLException if database operation fails
+     */
+    long count() throws SQLException;
+    
+    /**
+     * Write out queued transactions and stop the background writer.
+     * Transactions recorded afterwards are rejected.
+     */
+    void shutdown();
+}
@@ -0,0 +1,74 @@
+package com.erp.inventory.dao;
+
+import java.util.Objects;
+
+/**
+ * Outcome of a recorded transaction: its generated ID and the stock level it produced
+ */
+public final class TransactionReceipt {
+    private final int transactionId;
+    private final int productId;
+    private final int stockQuantity;
+    private final long stockVersion;
+
+    /**
+     * @param stockVersion Version the stock level was written under, from StockVersions
+     */
+    public TransactionReceipt(int transactionId, int productId, int stockQuantity, long stockVersion) {
+        this.transactionId = transactionId;
+        this.productId = productId;
+        this.stockQuantity = stockQuantity;
+        this.stockVersion = stockVersion;
+    }
+
+    public int getTransactionId() {
+        return transactionId;
+    }
+
+    public int getProductId() {
+        return productId;
+    }
+
+    /**
+     * Get the product stock quantity right after this transaction was applied
+     * @return resulting stock quantity
+     */
+    public int getStockQuantity() {
+        return stockQuantity;
+    }
+
+    /**
+     * Get the version the stock level was written under, which orders it against
+     * other stock changes of the product
+     * @return stock version
+     */
+    public long getStockVersion() {
+        return stockVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TransactionReceipt that = (TransactionReceipt) o;
+        return transactionId == that.transactionId &&
+               productId == that.productId &&
+               stockQuantity == that.stockQuantity &&
+               stockVersion == that.stockVersion;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactionId, productId, stockQuantity, stockVersion);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionReceipt{" +
+                "transactionId=" + transactionId +
+                ", productId=" + productId +
+                ", stockQuantity=" + stockQuantity +
+                ", stockVersion=" + stockVersion +
+                '}';
+    }
+}
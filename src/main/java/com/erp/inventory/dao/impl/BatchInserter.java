@@ -0,0 +1,179 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.dao.BatchSaveException;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.TransactionManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Inserts entities with JDBC batches and assigns the generated keys back.
+ * Each batch runs under a savepoint. If a batch fails it is rolled back and
+ * retried row by row, so one bad row only fails itself.
+ * Outside a unit of work every batch is committed on its own. If the connection
+ * itself fails, the rows after the last completed batch lose their IDs and are
+ * reported as failed, so the caller learns how much of the load was saved.
+ */
+final class BatchInserter<T> {
+    private static final Logger logger = LoggerFactory.getLogger(BatchInserter.class);
+
+    /**
+     * Binds the INSERT parameters for one entity
+     */
+    @FunctionalInterface
+    interface ParameterBinder<T> {
+        void bind(PreparedStatement stmt, T entity) throws SQLException;
+    }
+
+    private final String entityName;
+    private final String insertSql;
+    private final ParameterBinder<T> binder;
+    private final BiConsumer<T, Integer> idSetter;
+
+    BatchInserter(String entityName, String insertSql, ParameterBinder<T> binder, BiConsumer<T, Integer> idSetter) {
+        this.entityName = entityName;
+        this.insertSql = insertSql;
+        this.binder = binder;
+        this.idSetter = idSetter;
+    }
+
+    /**
+     * Insert all entities
+     * @param entities Entities to insert
+     * @return the same list with IDs assigned
+     * @throws BatchSaveException if some rows failed; the other rows are saved
+     * @throws SQLException if no connection could be prepared; nothing is saved
+     */
+    List<T> saveAll(List<T> entities) throws SQLException {
+        if (entities.isEmpty()) {
+            return entities;
+        }
+
+        int batchSize = DatabaseUtil.getBatchSize();
+        boolean ownTransaction = !TransactionManager.isActive();
+        Map<Integer, SQLException> failures = new HashMap<>();
+
+        logger.debug("Saving {} {}s in batches of {}", entities.size(), entityName, batchSize);
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+
+            // Rows before this index are committed, or applied to the caller's unit of work
+            int completedTo = 0;
+            try {
+                for (int from = 0; from < entities.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, entities.size());
+
+                    Savepoint savepoint = connection.setSavepoint();
+                    try {
+                        executeBatch(stmt, entities, from, to);
+                        connection.releaseSavepoint(savepoint);
+                    } catch (SQLException e) {
+                        logger.warn("Batch of {}s {}-{} failed, retrying row by row: {}",
+                                    entityName, from, to - 1, e.getMessage());
+                        clearIds(entities, from, to);
+                        connection.rollback(savepoint);
+                        stmt.clearBatch();
+                        insertRowByRow(connection, stmt, entities, from, to, failures);
+                    }
+
+                    if (ownTransaction) {
+                        connection.commit();
+                    }
+                    completedTo = to;
+                }
+            } catch (SQLException e) {
+                // The connection failed; nothing after the last completed batch is saved
+                logger.error("Error saving {}s in batch after {} rows", entityName, completedTo, e);
+                if (ownTransaction) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                }
+                clearIds(entities, completedTo, entities.size());
+                for (int i = completedTo; i < entities.size(); i++) {
+                    failures.putIfAbsent(i, e);
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error saving {}s in batch", entityName, e);
+            throw e;
+        }
+
+        int savedCount = entities.size() - failures.size();
+        if (!failures.isEmpty()) {
+            logger.warn("Saved {} {}s, {} failed", savedCount, entityName, failures.size());
+            throw new BatchSaveException(failures, savedCount);
+        }
+
+        logger.info("Saved {} {}s in batch", savedCount, entityName);
+        return entities;
+    }
+
+    private void executeBatch(PreparedStatement stmt, List<T> entities, int from, int to) throws SQLException {
+        for (int i = from; i < to; i++) {
+            binder.bind(stmt, entities.get(i));
+            stmt.addBatch();
+        }
+        stmt.executeBatch();
+
+        int index = from;
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            while (generatedKeys.next() && index < to) {
+                idSetter.accept(entities.get(index++), generatedKeys.getInt(1));
+            }
+        }
+        if (index != to) {
+            throw new SQLException("Creating " + entityName + "s failed, expected " + (to - from)
+                                   + " generated IDs but got " + (index - from));
+        }
+    }
+
+    private void insertRowByRow(Connection connection, PreparedStatement stmt, List<T> entities,
+                                int from, int to, Map<Integer, SQLException> failures) throws SQLException {
+        for (int i = from; i < to; i++) {
+            T entity = entities.get(i);
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                binder.bind(stmt, entity);
+                stmt.executeUpdate();
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Creating " + entityName + " failed, no ID obtained.");
+                    }
+                    idSetter.accept(entity, generatedKeys.getInt(1));
+                }
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                idSetter.accept(entity, null);
+                connection.rollback(savepoint);
+                failures.put(i, e);
+            }
+        }
+    }
+
+    private void clearIds(List<T> entities, int from, int to) {
+        for (int i = from; i < to; i++) {
+            idSetter.accept(entities.get(i), null);
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.erp.inventory.dao.impl;
 
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.Page;
+import com.erp.inventory.dao.PageCursor;
 import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.dao.SupplierDAO;
+import com.erp.inventory.model.Money;
 import com.erp.inventory.model.Product;
+import com.erp.inventory.model.Supplier;
 import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.TransactionManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * Implementation of ProductDAO for database operations
@@ -19,6 +32,30 @@ import java.util.Optional;
 public class ProductDAOImpl implements ProductDAO {
     private static final Logger logger = LoggerFactory.getLogger(ProductDAOImpl.class);
     
+    private final BatchInserter<Product> batchInserter =
+        new BatchInserter<>("product", INSERT_SQL, this::setProductParameters, Product::setProductId);
+    
+    // Fills in supplier name and rating when queries read the products table only; null to join suppliers
+    private final SupplierDAO supplierLookup;
+    
+    // Reads products by column index; supplier name and rating are only selected when suppliers are joined
+    private static final RowMapper<Product> PRODUCT_MAPPER = RowMapper.builder(Product::unstamped)
+        .column("product_id", ResultSet::getInt, Product::setProductId)
+        .column("product_name", ResultSet::getString, Product::setProductName)
+        .column("product_code", ResultSet::getString, Product::setProductCode)
+        .column("category", ResultSet::getString, Product::setCategory)
+        .column("description", ResultSet::getString, Product::setDescription)
+        .column("unit_price", (rs, column) -> Money.of(rs.getBigDecimal(column)), Product::setPrice)
+        .column("stock_quantity", ResultSet::getInt, Product::setStockQuantity)
+        .column("reorder_level", ResultSet::getInt, Product::setReorderLevel)
+        .column("supplier_id", ResultSet::getInt, Product::setSupplierId)
+        .optionalColumn("supplier_name", ResultSet::getString, Product::setSupplierName)
+        .optionalColumn("supplier_rating", ResultSet::getBigDecimal, Product::setSupplierRating)
+        .column("is_active", ResultSet::getBoolean, Product::setActive)
+        .column("created_date", RowMapper::localDateTime, Product::setCreatedDate)
+        .column("updated_date", RowMapper::localDateTime, Product::setUpdatedDate)
+        .build();
+    
     // SQL Queries
     private static final String INSERT_SQL = 
         "INSERT INTO products (product_name, product_code, category, description, unit_price, " +
@@ -29,16 +66,62 @@ public class ProductDAOImpl implements ProductDAO {
         "unit_price = ?, stock_quantity = ?, reorder_level = ?, supplier_id = ?, " +
         "updated_date = CURRENT_TIMESTAMP WHERE product_id = ?";
     
-    private static final String FIND_BY_ID_SQL = 
+    // Select lists for product queries; the queries below are their WHERE clauses, completed by select()
+    private static final String SELECT_WITH_SUPPLIER_SQL = 
         "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
+        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id ";
+    
+    private static final String SELECT_PRODUCTS_ONLY_SQL = 
+        "SELECT p.* FROM products p ";
+    
+    // Select lists for ProductStockRow projections, completed with the same WHERE clauses.
+    // mapResultSetToStockRow reads these columns by position.
+    private static final String STOCK_ROW_COLUMNS = 
+        "p.product_id, p.product_name, p.product_code, p.category, p.unit_price, " +
+        "p.stock_quantity, p.reorder_level, p.supplier_id";
+    
+    private static final String SELECT_STOCK_ROW_WITH_SUPPLIER_SQL = 
+        "SELECT " + STOCK_ROW_COLUMNS + ", s.company_name as supplier_name " +
+        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id ";
+    
+    private static final String SELECT_STOCK_ROW_PRODUCTS_ONLY_SQL = 
+        "SELECT " + STOCK_ROW_COLUMNS + " FROM products p ";
+    
+    private static final String FIND_BY_ID_SQL = 
         "WHERE p.product_id = ? AND p.is_active = TRUE";
     
+    // IN list is completed per call with a padded number of placeholders
+    private static final String FIND_BY_IDS_SQL_PREFIX = 
+        "WHERE p.is_active = TRUE AND p.product_id IN (";
+    
     private static final String FIND_ALL_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.is_active = TRUE ORDER BY p.product_name";
     
+    // Keyset pagination: the next page starts after the (product_name, product_id) of the last row
+    private static final String FIND_ALL_FIRST_PAGE_SQL = 
+        "WHERE p.is_active = TRUE ORDER BY p.product_name, p.product_id LIMIT ?";
+    
+    private static final String FIND_ALL_NEXT_PAGE_SQL = 
+        "WHERE p.is_active = TRUE " +
+        "AND (p.product_name > ? OR (p.product_name = ? AND p.product_id > ?)) " +
+        "ORDER BY p.product_name, p.product_id LIMIT ?";
+    
+    private static final String FIND_BY_NAME_FIRST_PAGE_SQL = 
+        "WHERE p.product_name LIKE ? AND p.is_active = TRUE ORDER BY p.product_name, p.product_id LIMIT ?";
+    
+    private static final String FIND_BY_NAME_NEXT_PAGE_SQL = 
+        "WHERE p.product_name LIKE ? AND p.is_active = TRUE " +
+        "AND (p.product_name > ? OR (p.product_name = ? AND p.product_id > ?)) " +
+        "ORDER BY p.product_name, p.product_id LIMIT ?";
+    
+    private static final String FIND_BY_CATEGORY_FIRST_PAGE_SQL = 
+        "WHERE p.category = ? AND p.is_active = TRUE ORDER BY p.product_name, p.product_id LIMIT ?";
+    
+    private static final String FIND_BY_CATEGORY_NEXT_PAGE_SQL = 
+        "WHERE p.category = ? AND p.is_active = TRUE " +
+        "AND (p.product_name > ? OR (p.product_name = ? AND p.product_id > ?)) " +
+        "ORDER BY p.product_name, p.product_id LIMIT ?";
+    
     private static final String SOFT_DELETE_SQL = 
         "UPDATE products SET is_active = FALSE, updated_date = CURRENT_TIMESTAMP WHERE product_id = ?";
     
@@ -49,36 +132,72 @@ public class ProductDAOImpl implements ProductDAO {
         "SELECT COUNT(*) FROM products WHERE is_active = TRUE";
     
     private static final String FIND_BY_NAME_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.product_name LIKE ? AND p.is_active = TRUE ORDER BY p.product_name";
     
     private static final String FIND_BY_CATEGORY_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.category = ? AND p.is_active = TRUE ORDER BY p.product_name";
     
     private static final String FIND_BY_SUPPLIER_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.supplier_id = ? AND p.is_active = TRUE ORDER BY p.product_name";
     
     private static final String FIND_BY_PRODUCT_CODE_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.product_code = ? AND p.is_active = TRUE";
     
     private static final String LOW_STOCK_SQL = 
-        "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-        "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
         "WHERE p.stock_quantity <= p.reorder_level AND p.is_active = TRUE " +
         "ORDER BY (p.reorder_level - p.stock_quantity) DESC";
     
     private static final String GET_CATEGORIES_SQL = 
         "SELECT DISTINCT category FROM products WHERE is_active = TRUE ORDER BY category";
     
+    private static final String FIND_PRODUCT_CODES_SQL = 
+        "SELECT product_code FROM products WHERE is_active = TRUE AND product_code IS NOT NULL";
+    
+    private static final String CATEGORY_COUNTS_SQL = 
+        "SELECT category, COUNT(*) AS product_count FROM products WHERE is_active = TRUE GROUP BY category";
+    
+    private static final String CATEGORY_VALUATIONS_SQL = 
+        "SELECT category, COUNT(*) AS item_count, COALESCE(SUM(stock_quantity), 0) AS total_units, " +
+        "COALESCE(SUM(unit_price * stock_quantity), 0) AS total_value " +
+        "FROM products WHERE is_active = TRUE GROUP BY category ORDER BY category";
+    
     private static final String UPDATE_STOCK_SQL = 
         "UPDATE products SET stock_quantity = ?, updated_date = CURRENT_TIMESTAMP WHERE product_id = ?";
+    
+    // Conditional delta update; the guard and the write happen in one statement so no update is lost
+    private static final String ADJUST_STOCK_SQL = 
+        "UPDATE products SET stock_quantity = stock_quantity + ?, updated_date = CURRENT_TIMESTAMP " +
+        "WHERE product_id = ? AND is_active = TRUE AND stock_quantity + ? >= ?";
+    
+    private static final String ADJUST_STOCK_RETURNING_SQL = ADJUST_STOCK_SQL + " RETURNING stock_quantity";
+    
+    private static final String ADJUST_STOCK_FINAL_TABLE_SQL = 
+        "SELECT stock_quantity FROM FINAL TABLE (" + ADJUST_STOCK_SQL + ")";
+    
+    // MySQL has no RETURNING; LAST_INSERT_ID(expr) hands the new value back as the generated key
+    private static final String ADJUST_STOCK_LAST_INSERT_ID_SQL = 
+        "UPDATE products SET stock_quantity = LAST_INSERT_ID(stock_quantity + ?), updated_date = CURRENT_TIMESTAMP " +
+        "WHERE product_id = ? AND is_active = TRUE AND stock_quantity + ? >= ?";
+    
+    private static final String FIND_STOCK_SQL = 
+        "SELECT stock_quantity FROM products WHERE product_id = ?";
+
+    /**
+     * Create a DAO whose product queries join suppliers for the supplier name and rating
+     */
+    public ProductDAOImpl() {
+        this(null);
+    }
+
+    /**
+     * Create a DAO whose product queries read the products table only.
+     * Supplier name and rating are filled in afterwards from the given supplier DAO,
+     * which should keep suppliers in memory (see CachingSupplierDAO).
+     * @param supplierLookup Supplier DAO used to enrich products, or null to join suppliers in SQL
+     */
+    public ProductDAOImpl(SupplierDAO supplierLookup) {
+        this.supplierLookup = supplierLookup;
+    }
 
     @Override
     public Product save(Product product) throws SQLException {
@@ -111,6 +230,12 @@ public class ProductDAOImpl implements ProductDAO {
         }
     }
 
+    @Override
+    public List<Product> saveAll(List<Product> products) throws SQLException {
+        logger.debug("Saving {} new products", products.size());
+        return batchInserter.saveAll(products);
+    }
+
     @Override
     public Product update(Product product) throws SQLException {
         logger.debug("Updating product: {}", product.getProductId());
@@ -140,13 +265,14 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding product by ID: {}", id);
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_BY_ID_SQL)) {
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_BY_ID_SQL))) {
             
             stmt.setInt(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Product product = mapResultSetToProduct(rs);
+                Product product = PRODUCT_MAPPER.mapNext(rs, selectList());
+                if (product != null) {
+                    enrichWithSuppliers(List.of(product));
                     logger.debug("Product found: {}", product.getProductName());
                     return Optional.of(product);
                 }
@@ -161,19 +287,53 @@ public class ProductDAOImpl implements ProductDAO {
         }
     }
 
+    @Override
+    public Map<Integer, Product> findAllByIds(Collection<Integer> ids) throws SQLException {
+        List<Integer> distinctIds = SqlInList.distinct(ids);
+        logger.debug("Finding products by {} IDs", distinctIds.size());
+        
+        Map<Integer, Product> products = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return products;
+        }
+        
+        int maxChunkSize = DatabaseUtil.getMaxInListSize();
+        
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            for (List<Integer> chunk : SqlInList.chunk(distinctIds, maxChunkSize)) {
+                int bucketSize = SqlInList.bucketSize(chunk.size(), maxChunkSize);
+                String sql = select(FIND_BY_IDS_SQL_PREFIX) + SqlInList.placeholders(bucketSize) + ")";
+                
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    SqlInList.bind(stmt, 1, chunk, bucketSize);
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        PRODUCT_MAPPER.forEach(rs, selectList(), product -> products.put(product.getProductId(), product));
+                    }
+                }
+            }
+            
+            enrichWithSuppliers(products.values());
+            logger.debug("Found {} of {} products", products.size(), distinctIds.size());
+            return products;
+            
+        } catch (SQLException e) {
+            logger.error("Error finding products by IDs", e);
+            throw e;
+        }
+    }
+
     @Override
     public List<Product> findAll() throws SQLException {
         logger.debug("Finding all products");
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_ALL_SQL);
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_ALL_SQL));
              ResultSet rs = stmt.executeQuery()) {
             
-            List<Product> products = new ArrayList<>();
-            while (rs.next()) {
-                products.add(mapResultSetToProduct(rs));
-            }
+            List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
             
+            enrichWithSuppliers(products);
             logger.info("Found {} products", products.size());
             return products;
             
@@ -183,6 +343,24 @@ public class ProductDAOImpl implements ProductDAO {
         }
     }
 
+    @Override
+    public Page<Product> findAllPage(PageCursor after, int pageSize) throws SQLException {
+        logger.debug("Finding products page after {}", after);
+        return findPage(FIND_ALL_FIRST_PAGE_SQL, FIND_ALL_NEXT_PAGE_SQL, null, after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByNamePage(String name, PageCursor after, int pageSize) throws SQLException {
+        logger.debug("Finding products page by name: {} after {}", name, after);
+        return findPage(FIND_BY_NAME_FIRST_PAGE_SQL, FIND_BY_NAME_NEXT_PAGE_SQL, "%" + name + "%", after, pageSize);
+    }
+
+    @Override
+    public Page<Product> findByCategoryPage(String category, PageCursor after, int pageSize) throws SQLException {
+        logger.debug("Finding products page by category: {} after {}", category, after);
+        return findPage(FIND_BY_CATEGORY_FIRST_PAGE_SQL, FIND_BY_CATEGORY_NEXT_PAGE_SQL, category, after, pageSize);
+    }
+
     @Override
     public boolean delete(Integer id) throws SQLException {
         logger.debug("Soft deleting product: {}", id);
@@ -245,16 +423,14 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding products by name: {}", name);
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_BY_NAME_SQL)) {
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_BY_NAME_SQL))) {
             
             stmt.setString(1, "%" + name + "%");
             
             try (ResultSet rs = stmt.executeQuery()) {
-                List<Product> products = new ArrayList<>();
-                while (rs.next()) {
-                    products.add(mapResultSetToProduct(rs));
-                }
+                List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
                 
+                enrichWithSuppliers(products);
                 logger.info("Found {} products matching name: {}", products.size(), name);
                 return products;
             }
@@ -270,16 +446,14 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding products by category: {}", category);
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_BY_CATEGORY_SQL)) {
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_BY_CATEGORY_SQL))) {
             
             stmt.setString(1, category);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                List<Product> products = new ArrayList<>();
-                while (rs.next()) {
-                    products.add(mapResultSetToProduct(rs));
-                }
+                List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
                 
+                enrichWithSuppliers(products);
                 logger.info("Found {} products in category: {}", products.size(), category);
                 return products;
             }
@@ -295,16 +469,14 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding products by supplier: {}", supplierId);
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_BY_SUPPLIER_SQL)) {
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_BY_SUPPLIER_SQL))) {
             
             stmt.setInt(1, supplierId);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                List<Product> products = new ArrayList<>();
-                while (rs.next()) {
-                    products.add(mapResultSetToProduct(rs));
-                }
+                List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
                 
+                enrichWithSuppliers(products);
                 logger.info("Found {} products for supplier: {}", products.size(), supplierId);
                 return products;
             }
@@ -320,13 +492,14 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding product by code: {}", productCode);
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(FIND_BY_PRODUCT_CODE_SQL)) {
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_BY_PRODUCT_CODE_SQL))) {
             
             stmt.setString(1, productCode);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Product product = mapResultSetToProduct(rs);
+                Product product = PRODUCT_MAPPER.mapNext(rs, selectList());
+                if (product != null) {
+                    enrichWithSuppliers(List.of(product));
                     logger.debug("Product found by code: {}", product.getProductName());
                     return product;
                 }
@@ -346,14 +519,12 @@ public class ProductDAOImpl implements ProductDAO {
         logger.debug("Finding low stock products");
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(LOW_STOCK_SQL);
+             PreparedStatement stmt = connection.prepareStatement(select(LOW_STOCK_SQL));
              ResultSet rs = stmt.executeQuery()) {
             
-            List<Product> products = new ArrayList<>();
-            while (rs.next()) {
-                products.add(mapResultSetToProduct(rs));
-            }
+            List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
             
+            enrichWithSuppliers(products);
             logger.info("Found {} low stock products", products.size());
             return products;
             
@@ -390,25 +561,69 @@ public class ProductDAOImpl implements ProductDAO {
         }
     }
 
+    @Override
+    public SortedMap<String, Long> getCategoryCounts() throws SQLException {
+        logger.debug("Counting products per category");
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(CATEGORY_COUNTS_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            SortedMap<String, Long> counts = new TreeMap<>();
+            while (rs.next()) {
+                counts.put(rs.getString("category"), rs.getLong("product_count"));
+            }
+            
+            logger.debug("Counted products in {} categories", counts.size());
+            return counts;
+            
+        } catch (SQLException e) {
+            logger.error("Error counting products per category", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<CategoryValuation> getCategoryValuations() throws SQLException {
+        logger.debug("Valuing stock per category");
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(CATEGORY_VALUATIONS_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            List<CategoryValuation> valuations = new ArrayList<>();
+            while (rs.next()) {
+                valuations.add(new CategoryValuation(
+                    rs.getString("category"),
+                    rs.getLong("item_count"),
+                    rs.getLong("total_units"),
+                    rs.getBigDecimal("total_value")));
+            }
+            
+            logger.debug("Valued stock in {} categories", valuations.size());
+            return valuations;
+            
+        } catch (SQLException e) {
+            logger.error("Error valuing stock per category", e);
+            throw e;
+        }
+    }
+
     @Override
     public List<Product> getOutOfStockProducts() throws SQLException {
         logger.debug("Finding out of stock products");
         
         String OUT_OF_STOCK_SQL = 
-            "SELECT p.*, s.company_name as supplier_name, s.rating as supplier_rating " +
-            "FROM products p LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id " +
             "WHERE p.stock_quantity = 0 AND p.is_active = TRUE " +
             "ORDER BY p.product_name";
         
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(OUT_OF_STOCK_SQL);
+             PreparedStatement stmt = connection.prepareStatement(select(OUT_OF_STOCK_SQL));
              ResultSet rs = stmt.executeQuery()) {
             
-            List<Product> products = new ArrayList<>();
-            while (rs.next()) {
-                products.add(mapResultSetToProduct(rs));
-            }
+            List<Product> products = PRODUCT_MAPPER.mapAll(rs, selectList());
             
+            enrichWithSuppliers(products);
             logger.info("Found {} out of stock products", products.size());
             return products;
             
@@ -424,6 +639,111 @@ public class ProductDAOImpl implements ProductDAO {
         return findAll(); // Stock summary is essentially all products with supplier info
     }
 
+    @Override
+    public void forEachProduct(Consumer<Product> action) throws SQLException {
+        logger.debug("Streaming all products");
+        
+        Map<Integer, Supplier> suppliers = loadSuppliers();
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(select(FIND_ALL_SQL))) {
+            
+            DatabaseUtil.getDialect().configureStreaming(connection, stmt, DatabaseUtil.getFetchSize());
+            
+            int count;
+            try (ResultSet rs = stmt.executeQuery()) {
+                count = PRODUCT_MAPPER.forEach(rs, selectList(), product -> {
+                    if (suppliers != null) {
+                        Supplier supplier = suppliers.get(product.getSupplierId());
+                        if (supplier != null) {
+                            setSupplierFields(product, supplier);
+                        }
+                    }
+                    action.accept(product);
+                });
+            }
+            
+            logger.info("Streamed {} products", count);
+            
+        } catch (SQLException e) {
+            logger.error("Error streaming products", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void forEachProductCode(Consumer<String> action) throws SQLException {
+        logger.debug("Streaming product codes");
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_PRODUCT_CODES_SQL)) {
+            
+            DatabaseUtil.getDialect().configureStreaming(connection, stmt, DatabaseUtil.getFetchSize());
+            
+            int count = 0;
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(rs.getString(1));
+                    count++;
+                }
+            }
+            
+            logger.debug("Streamed {} product codes", count);
+            
+        } catch (SQLException e) {
+            logger.error("Error streaming product codes", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void forEachStockRow(Consumer<ProductStockRow> action) throws SQLException {
+        logger.debug("Streaming product stock rows");
+        
+        Map<Integer, Supplier> suppliers = loadSuppliers();
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(selectStockRows(FIND_ALL_SQL))) {
+            
+            DatabaseUtil.getDialect().configureStreaming(connection, stmt, DatabaseUtil.getFetchSize());
+            
+            int count = 0;
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapResultSetToStockRow(rs, suppliers));
+                    count++;
+                }
+            }
+            
+            logger.info("Streamed {} product stock rows", count);
+            
+        } catch (SQLException e) {
+            logger.error("Error streaming product stock rows", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductStockRow> getLowStockRows() throws SQLException {
+        logger.debug("Finding low stock rows");
+        
+        Map<Integer, Supplier> suppliers = loadSuppliers();
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(selectStockRows(LOW_STOCK_SQL));
+             ResultSet rs = stmt.executeQuery()) {
+            
+            List<ProductStockRow> rows = new ArrayList<>();
+            while (rs.next()) {
+                rows.add(mapResultSetToStockRow(rs, suppliers));
+            }
+            
+            logger.info("Found {} low stock rows", rows.size());
+            return rows;
+            
+        } catch (SQLException e) {
+            logger.error("Error finding low stock rows", e);
+            throw e;
+        }
+    }
+
     @Override
     public boolean updateStockQuantity(Integer productId, Integer newQuantity) throws SQLException {
         logger.debug("Updating stock quantity for product {}: {}", productId, newQuantity);
@@ -451,6 +771,207 @@ public class ProductDAOImpl implements ProductDAO {
         }
     }
 
+    @Override
+    public Optional<Integer> adjustStock(Integer productId, int delta, int floor) throws SQLException {
+        logger.debug("Adjusting stock for product {} by {} (floor {})", productId, delta, floor);
+        
+        try {
+            Optional<Integer> newQuantity;
+            switch (DatabaseUtil.getDialect()) {
+                case POSTGRESQL:
+                    newQuantity = adjustStockReturning(ADJUST_STOCK_RETURNING_SQL, productId, delta, floor);
+                    break;
+                case H2:
+                    newQuantity = adjustStockReturning(ADJUST_STOCK_FINAL_TABLE_SQL, productId, delta, floor);
+                    break;
+                case MYSQL:
+                    newQuantity = adjustStockLastInsertId(productId, delta, floor);
+                    break;
+                default:
+                    // The row lock taken by the UPDATE keeps the follow-up read consistent
+                    newQuantity = TransactionManager.inTransaction(() -> adjustStockThenSelect(productId, delta, floor));
+                    break;
+            }
+            
+            if (newQuantity.isPresent()) {
+                logger.info("Stock adjusted for product {} by {}: {}", productId, delta, newQuantity.get());
+            } else {
+                logger.warn("Stock not adjusted for product {} by {}: not found or below floor {}", productId, delta, floor);
+            }
+            return newQuantity;
+            
+        } catch (SQLException e) {
+            logger.error("Error adjusting stock for product: {}", productId, e);
+            throw e;
+        }
+    }
+
+    private Optional<Integer> adjustStockReturning(String sql, Integer productId, int delta, int floor) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            
+            setAdjustStockParameters(stmt, productId, delta, floor);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? Optional.of(rs.getInt(1)) : Optional.empty();
+            }
+        }
+    }
+
+    private Optional<Integer> adjustStockLastInsertId(Integer productId, int delta, int floor) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(ADJUST_STOCK_LAST_INSERT_ID_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            setAdjustStockParameters(stmt, productId, delta, floor);
+            
+            if (stmt.executeUpdate() == 0) {
+                return Optional.empty();
+            }
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                // The driver reports no key when LAST_INSERT_ID was set to 0
+                return Optional.of(generatedKeys.next() ? generatedKeys.getInt(1) : 0);
+            }
+        }
+    }
+
+    private Optional<Integer> adjustStockThenSelect(Integer productId, int delta, int floor) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            try (PreparedStatement stmt = connection.prepareStatement(ADJUST_STOCK_SQL)) {
+                setAdjustStockParameters(stmt, productId, delta, floor);
+                if (stmt.executeUpdate() == 0) {
+                    return Optional.empty();
+                }
+            }
+            try (PreparedStatement stmt = connection.prepareStatement(FIND_STOCK_SQL)) {
+                stmt.setInt(1, productId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? Optional.of(rs.getInt(1)) : Optional.empty();
+                }
+            }
+        }
+    }
+
+    private void setAdjustStockParameters(PreparedStatement stmt, Integer productId, int delta, int floor) throws SQLException {
+        stmt.setInt(1, delta);
+        stmt.setInt(2, productId);
+        stmt.setInt(3, delta);
+        stmt.setInt(4, floor);
+    }
+
+    /**
+     * Helper method to run a keyset page query.
+     * Fetches one extra row to find out whether another page follows.
+     */
+    private Page<Product> findPage(String firstPageSql, String nextPageSql, String filter,
+                                   PageCursor after, int pageSize) throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        
+        String sql = select(after == null ? firstPageSql : nextPageSql);
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (filter != null) {
+                stmt.setString(index++, filter);
+            }
+            if (after != null) {
+                stmt.setString(index++, after.getSortKey());
+                stmt.setString(index++, after.getSortKey());
+                stmt.setInt(index++, after.getId());
+            }
+            stmt.setInt(index, pageSize + 1);
+            
+            List<Product> products = new ArrayList<>(pageSize + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                PRODUCT_MAPPER.forEach(rs, selectList(), products::add);
+            }
+            
+            PageCursor nextCursor = null;
+            if (products.size() > pageSize) {
+                products.remove(pageSize);
+                Product last = products.get(pageSize - 1);
+                nextCursor = new PageCursor(last.getProductName(), last.getProductId());
+            }
+            
+            enrichWithSuppliers(products);
+            logger.debug("Found {} products on page", products.size());
+            return new Page<>(products, nextCursor);
+            
+        } catch (SQLException e) {
+            logger.error("Error finding products page after {}", after, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Helper method to complete a product query with the select list for the current mode
+     */
+    private String select(String whereClause) {
+        return selectList() + whereClause;
+    }
+
+    /**
+     * Helper method to get the select list for the current mode, which PRODUCT_MAPPER
+     * also takes as the key of its column indexes
+     */
+    private String selectList() {
+        return supplierLookup == null ? SELECT_WITH_SUPPLIER_SQL : SELECT_PRODUCTS_ONLY_SQL;
+    }
+
+    /**
+     * Helper method to complete a stock row query with the select list for the current mode
+     */
+    private String selectStockRows(String whereClause) {
+        return (supplierLookup == null ? SELECT_STOCK_ROW_WITH_SUPPLIER_SQL : SELECT_STOCK_ROW_PRODUCTS_ONLY_SQL) + whereClause;
+    }
+
+    /**
+     * Helper method to fill in supplier fields from the supplier lookup.
+     * Does nothing when suppliers were joined in SQL.
+     */
+    private void enrichWithSuppliers(Collection<Product> products) throws SQLException {
+        if (supplierLookup == null || products.isEmpty()) {
+            return;
+        }
+        
+        List<Integer> supplierIds = new ArrayList<>();
+        for (Product product : products) {
+            supplierIds.add(product.getSupplierId());
+        }
+        Map<Integer, Supplier> suppliers = supplierLookup.findAllByIds(supplierIds);
+        
+        for (Product product : products) {
+            Supplier supplier = suppliers.get(product.getSupplierId());
+            if (supplier != null) {
+                setSupplierFields(product, supplier);
+            }
+        }
+    }
+
+    /**
+     * Helper method to get the suppliers to enrich a streamed query from.
+     * Called before the query runs, so the supplier lookup never queries while its result set is open.
+     * @return active suppliers by ID, or null when suppliers are joined in SQL
+     */
+    private Map<Integer, Supplier> loadSuppliers() throws SQLException {
+        if (supplierLookup == null) {
+            return null;
+        }
+        Map<Integer, Supplier> suppliers = new HashMap<>();
+        for (Supplier supplier : supplierLookup.findAll()) {
+            suppliers.put(supplier.getSupplierId(), supplier);
+        }
+        return suppliers;
+    }
+
+    private void setSupplierFields(Product product, Supplier supplier) {
+        product.setSupplierName(supplier.getCompanyName());
+        product.setSupplierRating(supplier.getRating());
+    }
+
     /**
      * Helper method to set product parameters in PreparedStatement
      */
@@ -466,41 +987,29 @@ public class ProductDAOImpl implements ProductDAO {
     }
 
     /**
-     * Helper method to map ResultSet to Product entity
+     * Helper method to map ResultSet to a stock row.
+     * Reads by position: the STOCK_ROW_COLUMNS, then the supplier name when suppliers are joined.
+     * @param suppliers Suppliers from loadSuppliers, or null when suppliers are joined
      */
-    private Product mapResultSetToProduct(ResultSet rs) throws SQLException {
-        Product product = new Product();
-        
-        product.setProductId(rs.getInt("product_id"));
-        product.setProductName(rs.getString("product_name"));
-        product.setProductCode(rs.getString("product_code"));
-        product.setCategory(rs.getString("category"));
-        product.setDescription(rs.getString("description"));
-        product.setUnitPrice(rs.getBigDecimal("unit_price"));
-        product.setStockQuantity(rs.getInt("stock_quantity"));
-        product.setReorderLevel(rs.getInt("reorder_level"));
-        product.setSupplierId(rs.getInt("supplier_id"));
-        
-        // Set transient fields if available
-        product.setSupplierName(rs.getString("supplier_name"));
-        BigDecimal supplierRating = rs.getBigDecimal("supplier_rating");
-        if (supplierRating != null) {
-            product.setSupplierRating(supplierRating);
-        }
-        
-        // Set base entity fields
-        product.setActive(rs.getBoolean("is_active"));
-        
-        Timestamp createdDate = rs.getTimestamp("created_date");
-        if (createdDate != null) {
-            product.setCreatedDate(createdDate.toLocalDateTime());
-        }
-        
-        Timestamp updatedDate = rs.getTimestamp("updated_date");
-        if (updatedDate != null) {
-            product.setUpdatedDate(updatedDate.toLocalDateTime());
+    private ProductStockRow mapResultSetToStockRow(ResultSet rs, Map<Integer, Supplier> suppliers) throws SQLException {
+        int supplierId = rs.getInt(8);
+        String supplierName;
+        if (suppliers == null) {
+            supplierName = rs.getString(9);
+        } else {
+            Supplier supplier = suppliers.get(supplierId);
+            supplierName = supplier != null ? supplier.getCompanyName() : null;
         }
         
-        return product;
+        return new ProductStockRow(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            Money.toCents(rs.getBigDecimal(5)),
+            rs.getInt(6),
+            rs.getInt(7),
+            supplierId,
+            supplierName);
     }
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.util.DatabaseUtil;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps result set rows to entities by column index.
+ * A DAO declares its mapper once, as a list of columns with a typed reader and a setter each.
+ * Callers pass the SQL of the query, or the part of it that fixes its select list, as a key:
+ * the columns are looked up in the ResultSetMetaData the first time a key is seen and the
+ * indexes are kept, so later queries with that key read no metadata at all. A key is taken to
+ * always produce the same columns. Without a key the indexes are cached by query shape (the
+ * list of column labels), which still reads the metadata once per result set.
+ * Optional columns, such as joined display fields, are skipped by queries that do not select them.
+ * Columns are applied in declaration order. Mappers are immutable and safe to share.
+ */
+final class RowMapper<T> {
+
+    /**
+     * Reads one column of the current row
+     */
+    @FunctionalInterface
+    interface ColumnReader<V> {
+        V read(ResultSet rs, int column) throws SQLException;
+    }
+
+    /**
+     * Receives the mapped rows of a result set
+     */
+    @FunctionalInterface
+    interface RowHandler<T> {
+        void accept(T entity) throws SQLException;
+    }
+
+    private final Supplier<T> factory;
+    private final List<Column<T, ?>> columns;
+    private final Map<String, int[]> indexesByQuery = new ConcurrentHashMap<>();
+    private final Map<String, int[]> indexesByShape = new ConcurrentHashMap<>();
+
+    private RowMapper(Supplier<T> factory, List<Column<T, ?>> columns) {
+        this.factory = factory;
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Start declaring a mapper
+     * @param factory Creates the empty entity each row is read into
+     */
+    static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Map every remaining row
+     */
+    List<T> mapAll(ResultSet rs) throws SQLException {
+        return mapAll(rs, null);
+    }
+
+    /**
+     * Map every remaining row
+     * @param query Key of the query's select list, or null to look it up by shape
+     */
+    List<T> mapAll(ResultSet rs, String query) throws SQLException {
+        List<T> entities = new ArrayList<>();
+        forEach(rs, query, entities::add);
+        return entities;
+    }
+
+    /**
+     * Map the next row, if any
+     * @return entity, or null if the result set has no more rows
+     */
+    T mapNext(ResultSet rs) throws SQLException {
+        return mapNext(rs, null);
+    }
+
+    /**
+     * Map the next row, if any
+     * @param query Key of the query's select list, or null to look it up by shape
+     * @return entity, or null if the result set has no more rows
+     */
+    T mapNext(ResultSet rs, String query) throws SQLException {
+        return rs.next() ? map(rs, indexes(rs, query)) : null;
+    }
+
+    /**
+     * Map every remaining row, handing each to the handler as it is read
+     * @return number of rows mapped
+     */
+    int forEach(ResultSet rs, RowHandler<? super T> handler) throws SQLException {
+        return forEach(rs, null, handler);
+    }
+
+    /**
+     * Map every remaining row, handing each to the handler as it is read
+     * @param query Key of the query's select list, or null to look it up by shape
+     * @return number of rows mapped
+     */
+    int forEach(ResultSet rs, String query, RowHandler<? super T> handler) throws SQLException {
+        int[] indexes = null;
+        int count = 0;
+        while (rs.next()) {
+            if (indexes == null) {
+                indexes = indexes(rs, query);
+            }
+            handler.accept(map(rs, indexes));
+            count++;
+        }
+        return count;
+    }
+
+    private T map(ResultSet rs, int[] indexes) throws SQLException {
+        T entity = factory.get();
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] > 0) {
+                columns.get(i).apply(entity, rs, indexes[i]);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Get the index of each declared column in this result set; 0 for an absent optional column
+     */
+    private int[] indexes(ResultSet rs, String query) throws SQLException {
+        if (query != null) {
+            int[] indexes = indexesByQuery.get(query);
+            if (indexes == null) {
+                indexes = resolve(rs.getMetaData());
+                indexesByQuery.put(query, indexes);
+            }
+            return indexes;
+        }
+
+        ResultSetMetaData metaData = rs.getMetaData();
+        int count = metaData.getColumnCount();
+        StringBuilder labels = new StringBuilder();
+        for (int column = 1; column <= count; column++) {
+            labels.append(metaData.getColumnLabel(column)).append(',');
+        }
+        String shape = labels.toString();
+
+        int[] indexes = indexesByShape.get(shape);
+        if (indexes == null) {
+            indexes = resolve(metaData);
+            indexesByShape.put(shape, indexes);
+        }
+        return indexes;
+    }
+
+    private int[] resolve(ResultSetMetaData metaData) throws SQLException {
+        // Labels are matched ignoring case, first occurrence wins, as ResultSet.findColumn does
+        Map<String, Integer> labels = new HashMap<>();
+        for (int column = metaData.getColumnCount(); column >= 1; column--) {
+            labels.put(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT), column);
+        }
+
+        int[] indexes = new int[columns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Column<T, ?> column = columns.get(i);
+            Integer index = labels.get(column.label);
+            if (index == null && !column.optional) {
+                throw new SQLException("Column not found in result set: " + column.label);
+            }
+            indexes[i] = index != null ? index : 0;
+        }
+        return indexes;
+    }
+
+    // ===== Common readers =====
+
+    /**
+     * Read an INT column that may be NULL
+     */
+    static Integer nullableInt(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Read a timestamp column in the way the configured database dialect supports best
+     */
+    static LocalDateTime localDateTime(ResultSet rs, int column) throws SQLException {
+        return DatabaseUtil.getDialect().getLocalDateTime(rs, column);
+    }
+
+    private static final class Column<T, V> {
+        private final String label;
+        private final ColumnReader<? extends V> reader;
+        private final BiConsumer<T, ? super V> setter;
+        private final boolean optional;
+
+        private Column(String label, ColumnReader<? extends V> reader, BiConsumer<T, ? super V> setter,
+                       boolean optional) {
+            this.label = label.toLowerCase(Locale.ROOT);
+            this.reader = reader;
+            this.setter = setter;
+            this.optional = optional;
+        }
+
+        private void apply(T entity, ResultSet rs, int index) throws SQLException {
+            setter.accept(entity, reader.read(rs, index));
+        }
+    }
+
+    static final class Builder<T> {
+        private final Supplier<T> factory;
+        private final List<Column<T, ?>> columns = new ArrayList<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Declare a column every query of this mapper selects
+         */
+        <V> Builder<T> column(String label, ColumnReader<? extends V> reader, BiConsumer<T, ? super V> setter) {
+            columns.add(new Column<>(label, reader, setter, false));
+            return this;
+        }
+
+        /**
+         * Declare a column only some queries select
+         */
+        <V> Builder<T> optionalColumn(String label, ColumnReader<? extends V> reader, BiConsumer<T, ? super V> setter) {
+            columns.add(new Column<>(label, reader, setter, true));
+            return this;
+        }
+
+        RowMapper<T> build() {
+            return new RowMapper<>(factory, columns);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.erp.inventory.dao.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Helpers for queries with an IN (...) list of ids.
+ * Lists are split into chunks no larger than the dialect allows, and each chunk
+ * is padded up to a power-of-two size so only a handful of distinct SQL strings
+ * exist and the per-connection statement cache keeps hitting.
+ */
+final class SqlInList {
+
+    private SqlInList() {
+    }
+
+    /**
+     * Drop null and duplicate ids, keeping the first-seen order
+     * @param ids Requested ids
+     * @return distinct non-null ids
+     */
+    static List<Integer> distinct(Collection<Integer> ids) {
+        Set<Integer> distinct = new LinkedHashSet<>();
+        for (Integer id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Split ids into chunks of at most maxSize
+     * @param ids Distinct ids
+     * @param maxSize Largest chunk size
+     * @return chunks in order
+     */
+    static List<List<Integer>> chunk(List<Integer> ids, int maxSize) {
+        List<List<Integer>> chunks = new ArrayList<>((ids.size() + maxSize - 1) / maxSize);
+        for (int from = 0; from < ids.size(); from += maxSize) {
+            chunks.add(ids.subList(from, Math.min(from + maxSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Round a chunk size up to the next power of two, capped at maxSize
+     * @param size Number of ids in the chunk
+     * @param maxSize Largest chunk size
+     * @return number of placeholders to use
+     */
+    static int bucketSize(int size, int maxSize) {
+        int bucket = Integer.highestOneBit(size);
+        if (bucket < size) {
+            bucket <<= 1;
+        }
+        return Math.min(bucket, maxSize);
+    }
+
+    /**
+     * Build "?, ?, ..." for an IN list
+     * @param count Number of placeholders
+     * @return placeholder list without parentheses
+     */
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Bind a chunk of ids, repeating the last id to fill the padded slots
+     * @param stmt Statement to bind
+     * @param startIndex Index of the first IN-list parameter
+     * @param ids Ids in the chunk
+     * @param bucketSize Number of placeholders in the statement
+     * @throws SQLException if binding fails
+     */
+    static void bind(PreparedStatement stmt, int startIndex, List<Integer> ids, int bucketSize) throws SQLException {
+        Integer last = ids.get(ids.size() - 1);
+        for (int i = 0; i < bucketSize; i++) {
+            stmt.setInt(startIndex + i, i < ids.size() ? ids.get(i) : last);
+        }
+    }
+}
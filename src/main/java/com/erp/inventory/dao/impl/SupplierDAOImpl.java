@@ -1,5 +1,7 @@
 package com.erp.inventory.dao.impl;
 
+import com.erp.inventory.dao.Page;
+import com.erp.inventory.dao.PageCursor;
 import com.erp.inventory.dao.SupplierDAO;
 import com.erp.inventory.model.Supplier;
 import com.erp.inventory.util.DatabaseUtil;
@@ -7,11 +9,13 @@ import com.erp.inventory.util.DatabaseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,23 @@ import java.util.Optional;
 public class SupplierDAOImpl implements SupplierDAO {
     private static final Logger logger = LoggerFactory.getLogger(SupplierDAOImpl.class);
     
+    private final BatchInserter<Supplier> batchInserter =
+        new BatchInserter<>("supplier", INSERT_SQL, this::setSupplierParameters, Supplier::setSupplierId);
+    
+    // Reads suppliers by column index
+    private static final RowMapper<Supplier> SUPPLIER_MAPPER = RowMapper.builder(Supplier::unstamped)
+        .column("supplier_id", ResultSet::getInt, Supplier::setSupplierId)
+        .column("company_name", ResultSet::getString, Supplier::setCompanyName)
+        .column("contact_person", ResultSet::getString, Supplier::setContactPerson)
+        .column("phone", ResultSet::getString, Supplier::setPhone)
+        .column("email", ResultSet::getString, Supplier::setEmail)
+        .column("address", ResultSet::getString, Supplier::setAddress)
+        .column("rating", ResultSet::getBigDecimal, Supplier::setRating)
+        .column("is_active", ResultSet::getBoolean, Supplier::setActive)
+        .column("created_date", RowMapper::localDateTime, Supplier::setCreatedDate)
+        .column("updated_date", RowMapper::localDateTime, Supplier::setUpdatedDate)
+        .build();
+    
     // SQL Queries
     private static final String INSERT_SQL = 
         "INSERT INTO suppliers (company_name, contact_person, phone, email, address, rating) " +
@@ -32,9 +53,22 @@ public class SupplierDAOImpl implements SupplierDAO {
     private static final String FIND_BY_ID_SQL = 
         "SELECT * FROM suppliers WHERE supplier_id = ? AND is_active = TRUE";
     
+    // IN list is completed per call with a padded number of placeholders
+    private static final String FIND_BY_IDS_SQL_PREFIX = 
+        "SELECT * FROM suppliers WHERE is_active = TRUE AND supplier_id IN (";
+    
     private static final String FIND_ALL_SQL = 
         "SELECT * FROM suppliers WHERE is_active = TRUE ORDER BY company_name";
     
+    // Keyset pagination: the next page starts after the (company_name, supplier_id) of the last row
+    private static final String FIND_ALL_FIRST_PAGE_SQL = 
+        "SELECT * FROM suppliers WHERE is_active = TRUE ORDER BY company_name, supplier_id LIMIT ?";
+    
+    private static final String FIND_ALL_NEXT_PAGE_SQL = 
+        "SELECT * FROM suppliers WHERE is_active = TRUE " +
+        "AND (company_name > ? OR (company_name = ? AND supplier_id > ?)) " +
+        "ORDER BY company_name, supplier_id LIMIT ?";
+    
     private static final String SOFT_DELETE_SQL = 
         "UPDATE suppliers SET is_active = FALSE, updated_date = CURRENT_TIMESTAMP WHERE supplier_id = ?";
     
@@ -56,6 +90,16 @@ public class SupplierDAOImpl implements SupplierDAO {
     private static final String GET_TOP_SUPPLIERS_SQL = 
         "SELECT * FROM suppliers WHERE is_active = TRUE ORDER BY rating DESC, company_name LIMIT ?";
     
+    // Change tracking for caches; deactivated suppliers are included so they can be dropped
+    private static final String FIND_UPDATED_SINCE_SQL = 
+        "SELECT * FROM suppliers WHERE updated_date >= ?";
+    
+    private static final String FIND_ALL_INCLUDING_INACTIVE_SQL = 
+        "SELECT * FROM suppliers";
+    
+    private static final String MAX_UPDATED_DATE_SQL = 
+        "SELECT MAX(updated_date) FROM suppliers";
+    
     private static final String HAS_PRODUCTS_SQL = 
         "SELECT COUNT(*) FROM products WHERE supplier_id = ? AND is_active = TRUE";
 
@@ -90,6 +134,12 @@ public class SupplierDAOImpl implements SupplierDAO {
         }
     }
 
+    @Override
+    public List<Supplier> saveAll(List<Supplier> suppliers) throws SQLException {
+        logger.debug("Saving {} new suppliers", suppliers.size());
+        return batchInserter.saveAll(suppliers);
+    }
+
     @Override
     public Supplier update(Supplier supplier) throws SQLException {
         logger.debug("Updating supplier: {}", supplier.getSupplierId());
@@ -125,8 +175,8 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setInt(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Supplier supplier = mapResultSetToSupplier(rs);
+                Supplier supplier = SUPPLIER_MAPPER.mapNext(rs, FIND_BY_ID_SQL);
+                if (supplier != null) {
                     logger.debug("Found supplier: {}", supplier.getCompanyName());
                     return Optional.of(supplier);
                 }
@@ -141,6 +191,41 @@ public class SupplierDAOImpl implements SupplierDAO {
         }
     }
 
+    @Override
+    public Map<Integer, Supplier> findAllByIds(Collection<Integer> ids) throws SQLException {
+        List<Integer> distinctIds = SqlInList.distinct(ids);
+        logger.debug("Finding suppliers by {} IDs", distinctIds.size());
+        
+        Map<Integer, Supplier> suppliers = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return suppliers;
+        }
+        
+        int maxChunkSize = DatabaseUtil.getMaxInListSize();
+        
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            for (List<Integer> chunk : SqlInList.chunk(distinctIds, maxChunkSize)) {
+                int bucketSize = SqlInList.bucketSize(chunk.size(), maxChunkSize);
+                String sql = FIND_BY_IDS_SQL_PREFIX + SqlInList.placeholders(bucketSize) + ")";
+                
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    SqlInList.bind(stmt, 1, chunk, bucketSize);
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        SUPPLIER_MAPPER.forEach(rs, FIND_BY_IDS_SQL_PREFIX, supplier -> suppliers.put(supplier.getSupplierId(), supplier));
+                    }
+                }
+            }
+            
+            logger.debug("Found {} of {} suppliers", suppliers.size(), distinctIds.size());
+            return suppliers;
+            
+        } catch (SQLException e) {
+            logger.error("Error finding suppliers by IDs", e);
+            throw e;
+        }
+    }
+
     @Override
     public List<Supplier> findAll() throws SQLException {
         logger.debug("Finding all suppliers");
@@ -151,9 +236,7 @@ public class SupplierDAOImpl implements SupplierDAO {
              PreparedStatement stmt = connection.prepareStatement(FIND_ALL_SQL);
              ResultSet rs = stmt.executeQuery()) {
             
-            while (rs.next()) {
-                suppliers.add(mapResultSetToSupplier(rs));
-            }
+            SUPPLIER_MAPPER.forEach(rs, FIND_ALL_SQL, suppliers::add);
             
             logger.debug("Found {} suppliers", suppliers.size());
             return suppliers;
@@ -164,6 +247,49 @@ public class SupplierDAOImpl implements SupplierDAO {
         }
     }
 
+    @Override
+    public Page<Supplier> findAllPage(PageCursor after, int pageSize) throws SQLException {
+        logger.debug("Finding suppliers page after {}", after);
+        
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        
+        String sql = after == null ? FIND_ALL_FIRST_PAGE_SQL : FIND_ALL_NEXT_PAGE_SQL;
+        List<Supplier> suppliers = new ArrayList<>(pageSize + 1);
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (after != null) {
+                stmt.setString(index++, after.getSortKey());
+                stmt.setString(index++, after.getSortKey());
+                stmt.setInt(index++, after.getId());
+            }
+            // One extra row tells whether another page follows
+            stmt.setInt(index, pageSize + 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                SUPPLIER_MAPPER.forEach(rs, sql, suppliers::add);
+            }
+            
+            PageCursor nextCursor = null;
+            if (suppliers.size() > pageSize) {
+                suppliers.remove(pageSize);
+                Supplier last = suppliers.get(pageSize - 1);
+                nextCursor = new PageCursor(last.getCompanyName(), last.getSupplierId());
+            }
+            
+            logger.debug("Found {} suppliers on page", suppliers.size());
+            return new Page<>(suppliers, nextCursor);
+            
+        } catch (SQLException e) {
+            logger.error("Error finding suppliers page after {}", after, e);
+            throw e;
+        }
+    }
+
     @Override
     public boolean delete(Integer id) throws SQLException {
         logger.debug("Soft deleting supplier: {}", id);
@@ -241,9 +367,7 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setString(1, "%" + name + "%");
             
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    suppliers.add(mapResultSetToSupplier(rs));
-                }
+                SUPPLIER_MAPPER.forEach(rs, FIND_BY_NAME_SQL, suppliers::add);
             }
             
             logger.debug("Found {} suppliers matching name: {}", suppliers.size(), name);
@@ -265,8 +389,8 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setString(1, email);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Supplier supplier = mapResultSetToSupplier(rs);
+                Supplier supplier = SUPPLIER_MAPPER.mapNext(rs, FIND_BY_EMAIL_SQL);
+                if (supplier != null) {
                     logger.debug("Found supplier by email: {}", supplier.getCompanyName());
                     return supplier;
                 }
@@ -294,9 +418,7 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setDouble(2, maxRating);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    suppliers.add(mapResultSetToSupplier(rs));
-                }
+                SUPPLIER_MAPPER.forEach(rs, FIND_BY_RATING_RANGE_SQL, suppliers::add);
             }
             
             logger.debug("Found {} suppliers in rating range {} - {}", 
@@ -322,9 +444,7 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setInt(1, limit);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    suppliers.add(mapResultSetToSupplier(rs));
-                }
+                SUPPLIER_MAPPER.forEach(rs, GET_TOP_SUPPLIERS_SQL, suppliers::add);
             }
             
             logger.debug("Found {} top suppliers", suppliers.size());
@@ -357,6 +477,53 @@ public class SupplierDAOImpl implements SupplierDAO {
         }
     }
     
+    @Override
+    public List<Supplier> findUpdatedSince(LocalDateTime since) throws SQLException {
+        logger.debug("Finding suppliers updated since {}", since);
+        
+        String sql = since == null ? FIND_ALL_INCLUDING_INACTIVE_SQL : FIND_UPDATED_SINCE_SQL;
+        List<Supplier> suppliers = new ArrayList<>();
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            
+            if (since != null) {
+                stmt.setTimestamp(1, Timestamp.valueOf(since));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                SUPPLIER_MAPPER.forEach(rs, sql, suppliers::add);
+            }
+            
+            logger.debug("Found {} suppliers updated since {}", suppliers.size(), since);
+            return suppliers;
+            
+        } catch (SQLException e) {
+            logger.error("Error finding suppliers updated since {}", since, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<LocalDateTime> getMaxUpdatedDate() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(MAX_UPDATED_DATE_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (rs.next()) {
+                Timestamp maxUpdated = rs.getTimestamp(1);
+                if (maxUpdated != null) {
+                    return Optional.of(maxUpdated.toLocalDateTime());
+                }
+            }
+            return Optional.empty();
+            
+        } catch (SQLException e) {
+            logger.error("Error getting latest supplier update time", e);
+            throw e;
+        }
+    }
+    
     // Helper methods
     private void setSupplierParameters(PreparedStatement stmt, Supplier supplier) throws SQLException {
         stmt.setString(1, supplier.getCompanyName());
@@ -371,32 +538,4 @@ public class SupplierDAOImpl implements SupplierDAO {
             stmt.setNull(6, Types.DECIMAL);
         }
     }
-    
-    private Supplier mapResultSetToSupplier(ResultSet rs) throws SQLException {
-        Supplier supplier = new Supplier();
-        
-        supplier.setSupplierId(rs.getInt("supplier_id"));
-        supplier.setCompanyName(rs.getString("company_name"));
-        supplier.setContactPerson(rs.getString("contact_person"));
-        supplier.setPhone(rs.getString("phone"));
-        supplier.setEmail(rs.getString("email"));
-        supplier.setAddress(rs.getString("address"));
-        
-        BigDecimal rating = rs.getBigDecimal("rating");
-        supplier.setRating(rating);
-        
-        supplier.setActive(rs.getBoolean("is_active"));
-        
-        Timestamp createdDate = rs.getTimestamp("created_date");
-        if (createdDate != null) {
-            supplier.setCreatedDate(createdDate.toLocalDateTime());
-        }
-        
-        Timestamp updatedDate = rs.getTimestamp("updated_date");
-        if (updatedDate != null) {
-            supplier.setUpdatedDate(updatedDate.toLocalDateTime());
-        }
-        
-        return supplier;
-    }
 }
\ No newline at end of file
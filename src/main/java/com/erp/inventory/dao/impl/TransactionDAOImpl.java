@@ -0,0 +1,513 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.dao.TransactionDAO;
+import com.erp.inventory.dao.TransactionReceipt;
+import com.erp.inventory.model.Transaction;
+import com.erp.inventory.model.TransactionType;
+import com.erp.inventory.util.DatabaseDialect;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.StockVersions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of TransactionDAO with group commit.
+ * record() only queues the transaction. A background writer takes everything queued
+ * within a short window (transactions.batch.max.wait.ms, up to transactions.batch.max.size)
+ * and writes the group in one database transaction:
+ * lock the affected products, check stock for each row in order, batch-insert the
+ * accepted rows and commit once. The stock triggers apply the quantities on insert.
+ */
+public class TransactionDAOImpl implements TransactionDAO {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionDAOImpl.class);
+
+    private static final int DEFAULT_BATCH_MAX_SIZE = 200;
+    private static final long DEFAULT_BATCH_MAX_WAIT_MS = 5;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    // SQL state raised by the stock check trigger
+    private static final String INSUFFICIENT_STOCK_SQL_STATE = "45000";
+
+    // Reads transactions by column index, with display fields from the joined product and supplier.
+    // Quantity is set before unit price, which recalculates the total, and the stored total last.
+    private static final RowMapper<Transaction> TRANSACTION_MAPPER = RowMapper.builder(Transaction::new)
+        .column("transaction_id", ResultSet::getInt, Transaction::setTransactionId)
+        .column("transaction_type", (rs, column) -> TransactionType.valueOf(rs.getString(column)),
+                Transaction::setTransactionType)
+        .column("product_id", ResultSet::getInt, Transaction::setProductId)
+        .column("quantity", ResultSet::getInt, Transaction::setQuantity)
+        .column("unit_price", ResultSet::getBigDecimal, Transaction::setUnitPrice)
+        .column("total_amount", ResultSet::getBigDecimal, Transaction::setTotalAmount)
+        .column("transaction_date", RowMapper::localDateTime, (transaction, date) -> {
+            if (date != null) {
+                transaction.setTransactionDate(date);
+            }
+        })
+        .column("created_by", RowMapper::nullableInt, Transaction::setCreatedBy)
+        .column("reference_number", ResultSet::getString, Transaction::setReferenceNumber)
+        .column("notes", ResultSet::getString, Transaction::setNotes)
+        .column("product_name", ResultSet::getString, Transaction::setProductName)
+        .column("product_code", ResultSet::getString, Transaction::setProductCode)
+        .column("category", ResultSet::getString, Transaction::setCategory)
+        .column("supplier_name", ResultSet::getString, Transaction::setSupplierName)
+        .build();
+
+    // SQL Queries
+    private static final String INSERT_SQL =
+        "INSERT INTO transactions (transaction_type, product_id, quantity, unit_price, transaction_date, " +
+        "created_by, reference_number, notes) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // IN list is completed per call with a padded number of placeholders
+    private static final String LOCK_STOCK_SQL_PREFIX =
+        "SELECT product_id, stock_quantity FROM products WHERE is_active = TRUE AND product_id IN (";
+
+    private static final String LOCK_STOCK_SQL_SUFFIX = ") FOR UPDATE";
+
+    private static final String SELECT_SQL =
+        "SELECT t.*, p.product_name, p.product_code, p.category, s.company_name as supplier_name " +
+        "FROM transactions t JOIN products p ON t.product_id = p.product_id " +
+        "LEFT JOIN suppliers s ON p.supplier_id = s.supplier_id ";
+
+    private static final String FIND_BY_ID_SQL =
+        SELECT_SQL + "WHERE t.transaction_id = ?";
+
+    private static final String FIND_RECENT_SQL =
+        SELECT_SQL + "ORDER BY t.transaction_date DESC, t.transaction_id DESC LIMIT ?";
+
+    private static final String FIND_BY_PRODUCT_SQL =
+        SELECT_SQL + "WHERE t.product_id = ? ORDER BY t.transaction_date DESC, t.transaction_id DESC LIMIT ?";
+
+    private static final String COUNT_SQL =
+        "SELECT COUNT(*) FROM transactions";
+
+    private final BlockingQueue<PendingTransaction> queue;
+    private final int batchMaxSize;
+    private final long batchMaxWaitMillis;
+
+    private final Object lifecycleLock = new Object();
+    private Thread writer;
+    private volatile boolean shutdown;
+
+    /**
+     * Create a DAO using the configured group commit settings
+     */
+    public TransactionDAOImpl() {
+        this(DatabaseUtil.getIntProperty("transactions.batch.max.size", DEFAULT_BATCH_MAX_SIZE),
+             DatabaseUtil.getLongProperty("transactions.batch.max.wait.ms", DEFAULT_BATCH_MAX_WAIT_MS),
+             DatabaseUtil.getIntProperty("transactions.queue.capacity", DEFAULT_QUEUE_CAPACITY));
+    }
+
+    /**
+     * Create a DAO with explicit group commit settings
+     * @param batchMaxSize Most transactions written in one group
+     * @param batchMaxWaitMillis Longest time the first queued transaction waits for others to join
+     * @param queueCapacity Most queued transactions before record() blocks
+     */
+    public TransactionDAOImpl(int batchMaxSize, long batchMaxWaitMillis, int queueCapacity) {
+        this.batchMaxSize = Math.max(1, batchMaxSize);
+        this.batchMaxWaitMillis = Math.max(0, batchMaxWaitMillis);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceipt> record(Transaction transaction) {
+        CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        if (transaction.getTransactionType() == null || transaction.getProductId() == null
+                || transaction.getQuantity() == null || transaction.getUnitPrice() == null) {
+            future.completeExceptionally(new SQLException("Transaction type, product, quantity and unit price are required"));
+            return future;
+        }
+
+        ensureWriterStarted();
+        if (shutdown) {
+            future.completeExceptionally(new SQLException("Transaction writer is shut down"));
+            return future;
+        }
+
+        try {
+            PendingTransaction pending = new PendingTransaction(transaction, future);
+            queue.put(pending);
+            // Lost the race with shutdown(): the writer may already be gone
+            if (shutdown && queue.remove(pending)) {
+                future.completeExceptionally(new SQLException("Transaction writer is shut down"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new SQLException("Interrupted while queueing transaction", e));
+        }
+        return future;
+    }
+
+    @Override
+    public Optional<Transaction> findById(Integer id) throws SQLException {
+        logger.debug("Finding transaction by ID: {}", id);
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_BY_ID_SQL)) {
+
+            stmt.setInt(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                Transaction transaction = TRANSACTION_MAPPER.mapNext(rs, SELECT_SQL);
+                if (transaction != null) {
+                    return Optional.of(transaction);
+                }
+            }
+
+            logger.debug("Transaction not found with ID: {}", id);
+            return Optional.empty();
+
+        } catch (SQLException e) {
+            logger.error("Error finding transaction by ID: {}", id, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Transaction> findRecent(int limit) throws SQLException {
+        logger.debug("Finding {} most recent transactions", limit);
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_RECENT_SQL)) {
+
+            stmt.setInt(1, limit);
+            return executeTransactionQuery(stmt);
+
+        } catch (SQLException e) {
+            logger.error("Error finding recent transactions", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Transaction> findByProduct(Integer productId, int limit) throws SQLException {
+        logger.debug("Finding transactions for product: {}", productId);
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_BY_PRODUCT_SQL)) {
+
+            stmt.setInt(1, productId);
+            stmt.setInt(2, limit);
+            return executeTransactionQuery(stmt);
+
+        } catch (SQLException e) {
+            logger.error("Error finding transactions for product: {}", productId, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long count() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(COUNT_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+
+            return rs.next() ? rs.getLong(1) : 0;
+
+        } catch (SQLException e) {
+            logger.error("Error counting transactions", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        Thread writerToJoin;
+        synchronized (lifecycleLock) {
+            shutdown = true;
+            writerToJoin = writer;
+        }
+
+        if (writerToJoin != null) {
+            try {
+                writerToJoin.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        rejectQueued();
+        logger.info("Transaction writer stopped");
+    }
+
+    /**
+     * Fail everything still queued; anything that slipped in after the writer exited
+     * is rejected, never dropped silently
+     */
+    private void rejectQueued() {
+        PendingTransaction pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new SQLException("Transaction writer is shut down"));
+        }
+    }
+
+    private void ensureWriterStarted() {
+        synchronized (lifecycleLock) {
+            if (writer == null && !shutdown) {
+                writer = new Thread(this::runWriter, "transaction-writer");
+                writer.setDaemon(true);
+                writer.start();
+                logger.info("Transaction writer started (batch max {} rows, wait {} ms)", batchMaxSize, batchMaxWaitMillis);
+            }
+        }
+    }
+
+    /**
+     * Writer loop: wait for a first transaction, collect more until the group
+     * is full or the wait window closes, then write the group.
+     * An interrupted writer stops for good: the DAO counts as shut down and every
+     * transaction it had not written fails.
+     */
+    private void runWriter() {
+        List<PendingTransaction> group = new ArrayList<>(batchMaxSize);
+
+        while (!shutdown || !queue.isEmpty()) {
+            try {
+                PendingTransaction first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchMaxWaitMillis);
+                while (group.size() < batchMaxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingTransaction next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+
+                writeGroup(group);
+
+            } catch (InterruptedException e) {
+                logger.warn("Transaction writer interrupted, failing {} queued transactions",
+                            group.size() + queue.size());
+                for (PendingTransaction pending : group) {
+                    pending.future.completeExceptionally(
+                            new SQLException("Transaction writer was interrupted", e));
+                }
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in transaction writer", e);
+                for (PendingTransaction pending : group) {
+                    pending.future.completeExceptionally(e);
+                }
+            } finally {
+                group.clear();
+            }
+        }
+
+        // Reject new records before draining, so none is left behind in the queue
+        shutdown = true;
+        rejectQueued();
+    }
+
+    /**
+     * Write a group in one database transaction.
+     * If the group fails as a whole, each transaction is retried on its own so
+     * one bad row does not fail its neighbours.
+     */
+    private void writeGroup(List<PendingTransaction> group) {
+        try {
+            writeGroupInTransaction(group);
+        } catch (SQLException e) {
+            if (group.size() == 1) {
+                logger.error("Error recording transaction for product: {}",
+                             group.get(0).transaction.getProductId(), e);
+                group.get(0).future.completeExceptionally(e);
+                return;
+            }
+
+            logger.warn("Group of {} transactions failed, retrying one by one: {}", group.size(), e.getMessage());
+            for (PendingTransaction pending : group) {
+                writeGroup(List.of(pending));
+            }
+        }
+    }
+
+    private void writeGroupInTransaction(List<PendingTransaction> group) throws SQLException {
+        List<PendingTransaction> accepted = new ArrayList<>(group.size());
+        List<Integer> stockLevels = new ArrayList<>(group.size());
+        Map<PendingTransaction, SQLException> rejected = new HashMap<>();
+        List<Integer> transactionIds;
+        long[] stockVersions;
+
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            connection.setAutoCommit(false);
+
+            Map<Integer, Integer> stock = lockStock(connection, group);
+
+            // Replay the group in arrival order against the locked stock levels
+            for (PendingTransaction pending : group) {
+                Transaction transaction = pending.transaction;
+                Integer current = stock.get(transaction.getProductId());
+                if (current == null) {
+                    rejected.put(pending, new SQLException("Product not found with ID: " + transaction.getProductId()));
+                    continue;
+                }
+
+                int next = applyToStock(transaction.getTransactionType(), current, transaction.getQuantity());
+                if (next < 0) {
+                    rejected.put(pending, new SQLException("Insufficient stock for this transaction", INSUFFICIENT_STOCK_SQL_STATE));
+                    continue;
+                }
+
+                stock.put(transaction.getProductId(), next);
+                accepted.add(pending);
+                stockLevels.add(next);
+            }
+
+            transactionIds = accepted.isEmpty() ? List.of() : insertBatch(connection, accepted);
+            // Drawn while the product rows are still locked, so they follow commit order
+            stockVersions = new long[accepted.size()];
+            for (int i = 0; i < stockVersions.length; i++) {
+                stockVersions[i] = StockVersions.next();
+            }
+            connection.commit();
+        }
+
+        // Futures complete only once the group is committed
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingTransaction pending = accepted.get(i);
+            pending.transaction.setTransactionId(transactionIds.get(i));
+            pending.future.complete(new TransactionReceipt(transactionIds.get(i),
+                    pending.transaction.getProductId(), stockLevels.get(i), stockVersions[i]));
+        }
+        for (Map.Entry<PendingTransaction, SQLException> entry : rejected.entrySet()) {
+            entry.getKey().future.completeExceptionally(entry.getValue());
+        }
+
+        logger.debug("Recorded {} transactions, rejected {}", accepted.size(), rejected.size());
+    }
+
+    /**
+     * Lock the products touched by the group and read their stock
+     */
+    private Map<Integer, Integer> lockStock(Connection connection, List<PendingTransaction> group) throws SQLException {
+        List<Integer> productIds = new ArrayList<>(group.size());
+        for (PendingTransaction pending : group) {
+            productIds.add(pending.transaction.getProductId());
+        }
+        productIds = SqlInList.distinct(productIds);
+
+        Map<Integer, Integer> stock = new HashMap<>();
+        int maxChunkSize = DatabaseUtil.getMaxInListSize();
+
+        for (List<Integer> chunk : SqlInList.chunk(productIds, maxChunkSize)) {
+            int bucketSize = SqlInList.bucketSize(chunk.size(), maxChunkSize);
+            String sql = LOCK_STOCK_SQL_PREFIX + SqlInList.placeholders(bucketSize) + LOCK_STOCK_SQL_SUFFIX;
+
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                SqlInList.bind(stmt, 1, chunk, bucketSize);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        stock.put(rs.getInt("product_id"), rs.getInt("stock_quantity"));
+                    }
+                }
+            }
+        }
+        return stock;
+    }
+
+    /**
+     * Stock level after a transaction, mirroring the stock update trigger
+     */
+    private int applyToStock(TransactionType type, int current, int quantity) {
+        if (type.increasesStock()) {
+            return current + quantity;
+        }
+        if (type.decreasesStock()) {
+            return current - quantity;
+        }
+        // Adjustments set the counted quantity
+        return quantity;
+    }
+
+    private List<Integer> insertBatch(Connection connection, List<PendingTransaction> accepted) throws SQLException {
+        DatabaseDialect dialect = DatabaseUtil.getDialect();
+        List<Integer> transactionIds = new ArrayList<>(accepted.size());
+
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (PendingTransaction pending : accepted) {
+                setTransactionParameters(stmt, dialect, pending.transaction);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                while (generatedKeys.next()) {
+                    transactionIds.add(generatedKeys.getInt(1));
+                }
+            }
+        }
+
+        if (transactionIds.size() != accepted.size()) {
+            throw new SQLException("Recording transactions failed, expected " + accepted.size()
+                                   + " generated IDs but got " + transactionIds.size());
+        }
+        return transactionIds;
+    }
+
+    private List<Transaction> executeTransactionQuery(PreparedStatement stmt) throws SQLException {
+        List<Transaction> transactions;
+
+        try (ResultSet rs = stmt.executeQuery()) {
+            transactions = TRANSACTION_MAPPER.mapAll(rs, SELECT_SQL);
+        }
+
+        logger.debug("Found {} transactions", transactions.size());
+        return transactions;
+    }
+
+    /**
+     * Helper method to set transaction parameters in PreparedStatement
+     */
+    private void setTransactionParameters(PreparedStatement stmt, DatabaseDialect dialect, Transaction transaction) throws SQLException {
+        dialect.setEnum(stmt, 1, transaction.getTransactionType());
+        stmt.setInt(2, transaction.getProductId());
+        stmt.setInt(3, transaction.getQuantity());
+        stmt.setBigDecimal(4, transaction.getUnitPrice());
+        stmt.setTimestamp(5, Timestamp.valueOf(transaction.getTransactionDate()));
+
+        if (transaction.getCreatedBy() != null) {
+            stmt.setInt(6, transaction.getCreatedBy());
+        } else {
+            stmt.setNull(6, Types.INTEGER);
+        }
+
+        stmt.setString(7, transaction.getReferenceNumber());
+        stmt.setString(8, transaction.getNotes());
+    }
+
+    /**
+     * A queued transaction and the future its caller is waiting on
+     */
+    private static final class PendingTransaction {
+        private final Transaction transaction;
+        private final CompletableFuture<TransactionReceipt> future;
+
+        private PendingTransaction(Transaction transaction, CompletableFuture<TransactionReceipt> future) {
+            this.transaction = transaction;
+            this.future = future;
+        }
+    }
+}
@@ -13,7 +13,14 @@ public abstract class BaseEntity {
     public BaseEntity() {
         this.isActive = true;
         this.createdDate = LocalDateTime.now();
-        this.updatedDate = LocalDateTime.now();
+        this.updatedDate = this.createdDate;
+    }
+
+    /**
+     * Constructor leaving the timestamps unset, for entities about to be filled from a database row
+     */
+    protected BaseEntity(boolean isActive) {
+        this.isActive = isActive;
     }
 
     // Getters and Setters
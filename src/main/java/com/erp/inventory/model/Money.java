@@ -0,0 +1,120 @@
+package com.erp.inventory.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money held as a whole number of cents.
+ * Sums and products are exact and throw ArithmeticException on overflow instead
+ * of wrapping. BigDecimal is only used at the edges, when reading from JDBC or
+ * user input and when formatting.
+ * Aggregations over many rows can skip the Money objects entirely and work on
+ * the raw cents through the static helpers, which allocate nothing.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * @param cents Amount in cents
+     * @return money of that many cents
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * @param amount Amount in currency units; rounded half up to cents, like the
+     *               DECIMAL(10,2) price columns do
+     * @return money of that amount, or null if amount is null
+     * @throws ArithmeticException if the amount does not fit in a long of cents
+     */
+    public static Money of(BigDecimal amount) {
+        return amount != null ? ofCents(toCents(amount)) : null;
+    }
+
+    /**
+     * Convert an amount to cents, rounding half up
+     * @param amount Amount in currency units
+     * @return amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long of cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Multiply cents by a quantity
+     * @throws ArithmeticException on overflow
+     */
+    public static long multiplyCents(long cents, long quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    /**
+     * Add two amounts in cents
+     * @throws ArithmeticException on overflow
+     */
+    public static long addCents(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * @param cents Amount in cents
+     * @return the amount in currency units, with two decimal places
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(addCents(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long quantity) {
+        return ofCents(multiplyCents(cents, quantity));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return cents == ((Money) o).cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -12,7 +12,7 @@ public class Product extends BaseEntity {
     private String productCode;
     private String category;
     private String description;
-    private BigDecimal unitPrice;
+    private Money unitPrice;
     private Integer stockQuantity;
     private Integer reorderLevel;
     private Integer supplierId;
@@ -28,12 +28,24 @@ public class Product extends BaseEntity {
         this.reorderLevel = 10;
     }
 
+    private Product(boolean isActive) {
+        super(isActive);
+    }
+
+    /**
+     * Create an empty product for a DAO to fill from a row.
+     * Skips the default timestamps and stock levels the public constructors set.
+     */
+    public static Product unstamped() {
+        return new Product(true);
+    }
+
     // Constructor with required fields
     public Product(String productName, String category, BigDecimal unitPrice, Integer supplierId) {
         super();
         this.productName = productName;
         this.category = category;
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.supplierId = supplierId;
         this.stockQuantity = 0;
         this.reorderLevel = 10;
@@ -47,12 +59,30 @@ public class Product extends BaseEntity {
         this.productCode = productCode;
         this.category = category;
         this.description = description;
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.stockQuantity = stockQuantity != null ? stockQuantity : 0;
         this.reorderLevel = reorderLevel != null ? reorderLevel : 10;
         this.supplierId = supplierId;
     }
 
+    // Copy constructor
+    public Product(Product other) {
+        this.productId = other.productId;
+        this.productName = other.productName;
+        this.productCode = other.productCode;
+        this.category = other.category;
+        this.description = other.description;
+        this.unitPrice = other.unitPrice;
+        this.stockQuantity = other.stockQuantity;
+        this.reorderLevel = other.reorderLevel;
+        this.supplierId = other.supplierId;
+        this.supplierName = other.supplierName;
+        this.supplierRating = other.supplierRating;
+        this.isActive = other.isActive;
+        this.createdDate = other.createdDate;
+        this.updatedDate = other.updatedDate;
+    }
+
     // Getters and Setters
     public Integer getProductId() {
         return productId;
@@ -95,13 +125,29 @@ public class Product extends BaseEntity {
     }
 
     public BigDecimal getUnitPrice() {
-        return unitPrice;
+        return unitPrice != null ? unitPrice.toBigDecimal() : null;
     }
 
     public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = Money.of(unitPrice);
+    }
+
+    public Money getPrice() {
+        return unitPrice;
+    }
+
+    public void setPrice(Money unitPrice) {
         this.unitPrice = unitPrice;
     }
 
+    /**
+     * Get the unit price in cents without allocating
+     * @return unit price in cents, 0 if not set
+     */
+    public long getUnitPriceCents() {
+        return unitPrice != null ? unitPrice.getCents() : 0;
+    }
+
     public Integer getStockQuantity() {
         return stockQuantity;
     }
@@ -145,7 +191,7 @@ public class Product extends BaseEntity {
     // Business methods
     public BigDecimal getStockValue() {
         if (stockQuantity != null && unitPrice != null) {
-            return unitPrice.multiply(BigDecimal.valueOf(stockQuantity));
+            return Money.toBigDecimal(Money.multiplyCents(unitPrice.getCents(), stockQuantity));
         }
         return BigDecimal.ZERO;
     }
@@ -20,6 +20,17 @@ public class Supplier extends BaseEntity {
         super();
     }
 
+    private Supplier(boolean isActive) {
+        super(isActive);
+    }
+
+    /**
+     * Create an empty supplier for a DAO to fill from a row, without the default timestamps
+     */
+    public static Supplier unstamped() {
+        return new Supplier(true);
+    }
+
     // Constructor with required fields
     public Supplier(String companyName) {
         super();
@@ -38,6 +49,20 @@ public class Supplier extends BaseEntity {
         this.rating = rating;
     }
 
+    // Copy constructor
+    public Supplier(Supplier other) {
+        this.supplierId = other.supplierId;
+        this.companyName = other.companyName;
+        this.contactPerson = other.contactPerson;
+        this.phone = other.phone;
+        this.email = other.email;
+        this.address = other.address;
+        this.rating = other.rating;
+        this.isActive = other.isActive;
+        this.createdDate = other.createdDate;
+        this.updatedDate = other.updatedDate;
+    }
+
     // Getters and Setters
     public Integer getSupplierId() {
         return supplierId;
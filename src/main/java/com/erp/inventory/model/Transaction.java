@@ -12,8 +12,8 @@ public class Transaction {
     private TransactionType transactionType;
     private Integer productId;
     private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal totalAmount; // Calculated field (quantity * unitPrice)
+    private Money unitPrice;
+    private Money totalAmount; // Calculated field (quantity * unitPrice)
     private LocalDateTime transactionDate;
     private Integer createdBy;
     private String referenceNumber;
@@ -38,7 +38,7 @@ public class Transaction {
         this.transactionType = transactionType;
         this.productId = productId;
         this.quantity = quantity;
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.totalAmount = calculateTotalAmount();
     }
 
@@ -49,7 +49,7 @@ public class Transaction {
         this.transactionType = transactionType;
         this.productId = productId;
         this.quantity = quantity;
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.createdBy = createdBy;
         this.referenceNumber = referenceNumber;
         this.notes = notes;
@@ -91,25 +91,33 @@ public class Transaction {
     }
 
     public BigDecimal getUnitPrice() {
-        return unitPrice;
+        return unitPrice != null ? unitPrice.toBigDecimal() : null;
     }
 
     public void setUnitPrice(BigDecimal unitPrice) {
-        this.unitPrice = unitPrice;
+        this.unitPrice = Money.of(unitPrice);
         this.totalAmount = calculateTotalAmount();
     }
 
     public BigDecimal getTotalAmount() {
+        return getTotal().toBigDecimal();
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = Money.of(totalAmount);
+    }
+
+    public Money getPrice() {
+        return unitPrice;
+    }
+
+    public Money getTotal() {
         if (totalAmount == null) {
             totalAmount = calculateTotalAmount();
         }
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
-        this.totalAmount = totalAmount;
-    }
-
     public LocalDateTime getTransactionDate() {
         return transactionDate;
     }
@@ -183,11 +191,11 @@ public class Transaction {
     }
 
     // Business methods
-    private BigDecimal calculateTotalAmount() {
+    private Money calculateTotalAmount() {
         if (quantity != null && unitPrice != null) {
-            return unitPrice.multiply(BigDecimal.valueOf(quantity));
+            return unitPrice.times(quantity);
         }
-        return BigDecimal.ZERO;
+        return Money.ZERO;
     }
 
     public String getDisplayProductName() {
@@ -0,0 +1,270 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.model.Product;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory index from product code to the fields a till needs.
+ * An open-addressing hash table with linear probing keeps the codes and the
+ * product fields in parallel arrays, so a lookup touches no objects besides the
+ * code strings and allocates nothing. Lookups are optimistic reads of a StampedLock
+ * and only fall back to the read lock when a write raced with them.
+ * Removal shifts later entries back instead of leaving tombstones, so lookups
+ * never probe past deleted slots.
+ */
+public class BarcodeIndex {
+    private static final int MIN_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+
+    // Replaced as a whole on resize, so an optimistic reader sees arrays of one size
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private int size;
+
+    // Write side only, guarded by the write lock: finds the code of a product by ID
+    private final Map<Integer, String> codesById = new HashMap<>();
+
+    /**
+     * Look up a product code
+     * @param productCode Product code to find
+     * @param into Record to fill in; its contents are unspecified when the code is not found
+     * @return true if the code is indexed
+     */
+    public boolean lookup(String productCode, ScanRecord into) {
+        if (productCode == null) {
+            return false;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0 && read(productCode, into) && lock.validate(stamp)) {
+            return true;
+        }
+        if (stamp != 0 && lock.validate(stamp)) {
+            return false;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read(productCode, into);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Add or replace the entry for a product, dropping its old code if the code changed
+     * @param product Product to index; products without a code are only removed
+     */
+    public void put(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            String oldCode = codesById.get(product.getProductId());
+            if (oldCode != null && !oldCode.equals(product.getProductCode())) {
+                removeCode(oldCode);
+                codesById.remove(product.getProductId());
+            }
+            if (product.getProductCode() == null) {
+                return;
+            }
+
+            if ((size + 1) * 2 > table.codes.length) {
+                resize(table.codes.length * 2);
+            }
+            Table current = table;
+            int slot = findSlot(current, product.getProductCode());
+            if (current.codes[slot] == null) {
+                current.codes[slot] = product.getProductCode();
+                size++;
+            } else if (current.productIds[slot] != product.getProductId()) {
+                // The code moved to another product, e.g. after the old one was deleted
+                codesById.remove(current.productIds[slot]);
+            }
+            current.productIds[slot] = product.getProductId();
+            current.names[slot] = product.getProductName();
+            current.unitPriceCents[slot] = product.getUnitPriceCents();
+            current.stockQuantities[slot] = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+            codesById.put(product.getProductId(), product.getProductCode());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Update the stock of an indexed product
+     * @param productId Product ID
+     * @param stockQuantity New stock quantity
+     */
+    public void setStock(Integer productId, int stockQuantity) {
+        long stamp = lock.writeLock();
+        try {
+            String code = codesById.get(productId);
+            if (code == null) {
+                return;
+            }
+            Table current = table;
+            int slot = findSlot(current, code);
+            if (current.codes[slot] != null) {
+                current.stockQuantities[slot] = stockQuantity;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a product from the index
+     * @param productId Product ID
+     */
+    public void remove(Integer productId) {
+        long stamp = lock.writeLock();
+        try {
+            String code = codesById.remove(productId);
+            if (code != null) {
+                removeCode(code);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove every entry
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            table = new Table(MIN_CAPACITY);
+            size = 0;
+            codesById.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Probe for a code and copy its fields. May see a half-written entry when
+     * called optimistically; the caller validates the stamp before trusting it.
+     */
+    private boolean read(String productCode, ScanRecord into) {
+        Table current = table;
+        String[] codes = current.codes;
+        int mask = codes.length - 1;
+        int slot = spread(productCode.hashCode()) & mask;
+
+        // The table is never full, but a racing writer could make it look so
+        for (int probes = 0; probes < codes.length; probes++) {
+            String code = codes[slot];
+            if (code == null) {
+                return false;
+            }
+            if (code.equals(productCode)) {
+                into.productId = current.productIds[slot];
+                into.productName = current.names[slot];
+                into.unitPriceCents = current.unitPriceCents[slot];
+                into.stockQuantity = current.stockQuantities[slot];
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Find the slot holding a code, or the empty slot where it belongs
+     */
+    private static int findSlot(Table table, String productCode) {
+        int mask = table.codes.length - 1;
+        int slot = spread(productCode.hashCode()) & mask;
+        while (table.codes[slot] != null && !table.codes[slot].equals(productCode)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Remove a code and shift later entries of its probe run back into the gap
+     */
+    private void removeCode(String productCode) {
+        Table current = table;
+        int mask = current.codes.length - 1;
+        int gap = findSlot(current, productCode);
+        if (current.codes[gap] == null) {
+            return;
+        }
+
+        int slot = (gap + 1) & mask;
+        while (current.codes[slot] != null) {
+            int home = spread(current.codes[slot].hashCode()) & mask;
+            // Move the entry back if the gap lies between its home slot and where it sits
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                current.move(slot, gap);
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        current.clear(gap);
+        size--;
+    }
+
+    private void resize(int capacity) {
+        Table old = table;
+        Table resized = new Table(capacity);
+        for (int i = 0; i < old.codes.length; i++) {
+            if (old.codes[i] != null) {
+                int slot = findSlot(resized, old.codes[i]);
+                resized.codes[slot] = old.codes[i];
+                resized.productIds[slot] = old.productIds[i];
+                resized.names[slot] = old.names[i];
+                resized.unitPriceCents[slot] = old.unitPriceCents[i];
+                resized.stockQuantities[slot] = old.stockQuantities[i];
+            }
+        }
+        table = resized;
+    }
+
+    private static int spread(int hash) {
+        // Product codes often differ only in trailing digits; mix high bits into the low ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Table {
+        private final String[] codes;
+        private final int[] productIds;
+        private final String[] names;
+        private final long[] unitPriceCents;
+        private final int[] stockQuantities;
+
+        private Table(int capacity) {
+            codes = new String[capacity];
+            productIds = new int[capacity];
+            names = new String[capacity];
+            unitPriceCents = new long[capacity];
+            stockQuantities = new int[capacity];
+        }
+
+        private void move(int from, int to) {
+            codes[to] = codes[from];
+            productIds[to] = productIds[from];
+            names[to] = names[from];
+            unitPriceCents[to] = unitPriceCents[from];
+            stockQuantities[to] = stockQuantities[from];
+        }
+
+        private void clear(int slot) {
+            codes[slot] = null;
+            names[slot] = null;
+        }
+    }
+}
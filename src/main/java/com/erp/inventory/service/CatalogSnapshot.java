@@ -0,0 +1,360 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductStockRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only columnar copy of the active products for reports.
+ * Each column is a primitive array indexed by row, rows ordered by product ID, and
+ * categories and suppliers are stored once in dictionaries and referenced by index.
+ * ReportService loops run over the int and long columns without touching any objects.
+ * A change returns a new snapshot that shares every column it did not touch: stock
+ * changes copy only the stock column, once per batch. Snapshots are immutable and safe to share.
+ */
+public final class CatalogSnapshot {
+    public static final CatalogSnapshot EMPTY = new Builder().build();
+
+    private final int[] ids;
+    private final String[] names;
+    private final String[] codes;
+    private final int[] categoryRefs;
+    private final int[] supplierRefs;
+    private final long[] priceCents;
+    private final int[] stock;
+    private final int[] reorderLevels;
+
+    // Dictionaries; may hold entries no row references any more
+    private final String[] categories;
+    private final int[] supplierIds;
+    private final String[] supplierNames;
+
+    // Rows in product name order, computed on first use
+    private volatile int[] nameOrder;
+
+    private CatalogSnapshot(int[] ids, String[] names, String[] codes, int[] categoryRefs, int[] supplierRefs,
+                            long[] priceCents, int[] stock, int[] reorderLevels,
+                            String[] categories, int[] supplierIds, String[] supplierNames) {
+        this.ids = ids;
+        this.names = names;
+        this.codes = codes;
+        this.categoryRefs = categoryRefs;
+        this.supplierRefs = supplierRefs;
+        this.priceCents = priceCents;
+        this.stock = stock;
+        this.reorderLevels = reorderLevels;
+        this.categories = categories;
+        this.supplierIds = supplierIds;
+        this.supplierNames = supplierNames;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // ===== Column access for report loops =====
+
+    int stockAt(int row) {
+        return stock[row];
+    }
+
+    int reorderLevelAt(int row) {
+        return reorderLevels[row];
+    }
+
+    long priceCentsAt(int row) {
+        return priceCents[row];
+    }
+
+    String nameAt(int row) {
+        return names[row];
+    }
+
+    int categoryRefAt(int row) {
+        return categoryRefs[row];
+    }
+
+    int supplierRefAt(int row) {
+        return supplierRefs[row];
+    }
+
+    int categoryCount() {
+        return categories.length;
+    }
+
+    String category(int categoryRef) {
+        return categories[categoryRef];
+    }
+
+    /**
+     * Materialize one row
+     * @param row Row index, 0 to size() - 1
+     * @return stock row
+     */
+    ProductStockRow row(int row) {
+        int supplier = supplierRefs[row];
+        return new ProductStockRow(ids[row], names[row], codes[row], categories[categoryRefs[row]],
+                                   priceCents[row], stock[row], reorderLevels[row],
+                                   supplierIds[supplier], supplierNames[supplier]);
+    }
+
+    /**
+     * Visit every product in name order
+     * @param action Callback invoked for each product
+     */
+    public void forEachByName(Consumer<ProductStockRow> action) {
+        for (int row : nameOrder()) {
+            action.accept(row(row));
+        }
+    }
+
+    // ===== Copy-on-write changes =====
+
+    /**
+     * Add or replace a product
+     * @param product Product's stock row as now stored
+     * @return new snapshot
+     */
+    public CatalogSnapshot with(ProductStockRow product) {
+        String[] newCategories = categories;
+        int category = indexOf(categories, product.getCategory());
+        if (category < 0) {
+            category = categories.length;
+            newCategories = Arrays.copyOf(categories, category + 1);
+            newCategories[category] = product.getCategory();
+        }
+
+        int[] newSupplierIds = supplierIds;
+        String[] newSupplierNames = supplierNames;
+        int supplier = indexOf(supplierIds, product.getSupplierId());
+        if (supplier < 0 || !Objects.equals(supplierNames[supplier], product.getSupplierName())) {
+            if (supplier < 0) {
+                supplier = supplierIds.length;
+                newSupplierIds = Arrays.copyOf(supplierIds, supplier + 1);
+                newSupplierIds[supplier] = product.getSupplierId();
+                newSupplierNames = Arrays.copyOf(supplierNames, supplier + 1);
+            } else {
+                newSupplierNames = supplierNames.clone();
+            }
+            newSupplierNames[supplier] = product.getSupplierName();
+        }
+
+        int row = Arrays.binarySearch(ids, product.getProductId());
+        boolean insert = row < 0;
+        if (insert) {
+            row = -row - 1;
+        }
+        CatalogSnapshot changed = new CatalogSnapshot(
+            insert ? insertAt(ids, row) : ids.clone(),
+            insert ? insertAt(names, row) : names.clone(),
+            insert ? insertAt(codes, row) : codes.clone(),
+            insert ? insertAt(categoryRefs, row) : categoryRefs.clone(),
+            insert ? insertAt(supplierRefs, row) : supplierRefs.clone(),
+            insert ? insertAt(priceCents, row) : priceCents.clone(),
+            insert ? insertAt(stock, row) : stock.clone(),
+            insert ? insertAt(reorderLevels, row) : reorderLevels.clone(),
+            newCategories, newSupplierIds, newSupplierNames);
+        changed.set(row, product, category, supplier);
+        return changed;
+    }
+
+    /**
+     * Change the stock of a product
+     * @param productId Product ID
+     * @param stockQuantity New stock quantity
+     * @return new snapshot sharing every other column, or this one if the product is unknown
+     */
+    public CatalogSnapshot withStock(int productId, int stockQuantity) {
+        return withStock(Map.of(productId, stockQuantity));
+    }
+
+    /**
+     * Change the stock of several products, copying the stock column once for all of them
+     * @param stockQuantities New stock quantity by product ID; unknown products are ignored
+     * @return new snapshot sharing every other column, or this one if nothing changed
+     */
+    public CatalogSnapshot withStock(Map<Integer, Integer> stockQuantities) {
+        int[] newStock = null;
+        for (Map.Entry<Integer, Integer> change : stockQuantities.entrySet()) {
+            int row = Arrays.binarySearch(ids, change.getKey());
+            if (row < 0 || stock[row] == change.getValue()) {
+                continue;
+            }
+            if (newStock == null) {
+                newStock = stock.clone();
+            }
+            newStock[row] = change.getValue();
+        }
+        if (newStock == null) {
+            return this;
+        }
+        CatalogSnapshot changed = new CatalogSnapshot(ids, names, codes, categoryRefs, supplierRefs, priceCents,
+                                                      newStock, reorderLevels, categories, supplierIds, supplierNames);
+        // Stock does not affect name order
+        changed.nameOrder = nameOrder;
+        return changed;
+    }
+
+    /**
+     * Remove a product
+     * @param productId Product ID
+     * @return new snapshot, or this one if the product is unknown
+     */
+    public CatalogSnapshot without(int productId) {
+        int row = Arrays.binarySearch(ids, productId);
+        if (row < 0) {
+            return this;
+        }
+        return new CatalogSnapshot(
+            removeAt(ids, row), removeAt(names, row), removeAt(codes, row),
+            removeAt(categoryRefs, row), removeAt(supplierRefs, row), removeAt(priceCents, row),
+            removeAt(stock, row), removeAt(reorderLevels, row),
+            categories, supplierIds, supplierNames);
+    }
+
+    // ===== Helpers =====
+
+    private int[] nameOrder() {
+        int[] order = nameOrder;
+        if (order == null) {
+            order = IntStream.range(0, ids.length)
+                             .boxed()
+                             .sorted(Comparator.comparing((Integer row) -> names[row]).thenComparingInt(row -> ids[row]))
+                             .mapToInt(Integer::intValue)
+                             .toArray();
+            nameOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Fill one row of freshly copied columns
+     */
+    private void set(int row, ProductStockRow product, int category, int supplier) {
+        ids[row] = product.getProductId();
+        names[row] = product.getProductName();
+        codes[row] = product.getProductCode();
+        categoryRefs[row] = category;
+        supplierRefs[row] = supplier;
+        priceCents[row] = product.getUnitPriceCents();
+        stock[row] = product.getStockQuantity();
+        reorderLevels[row] = product.getReorderLevel();
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (Objects.equals(values[i], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] insertAt(int[] values, int index) {
+        int[] copy = new int[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index, copy, index + 1, values.length - index);
+        return copy;
+    }
+
+    private static long[] insertAt(long[] values, int index) {
+        long[] copy = new long[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index, copy, index + 1, values.length - index);
+        return copy;
+    }
+
+    private static String[] insertAt(String[] values, int index) {
+        String[] copy = new String[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index, copy, index + 1, values.length - index);
+        return copy;
+    }
+
+    private static int[] removeAt(int[] values, int index) {
+        int[] copy = new int[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private static long[] removeAt(long[] values, int index) {
+        long[] copy = new long[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private static String[] removeAt(String[] values, int index) {
+        String[] copy = new String[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    /**
+     * Collects rows in any order and builds a snapshot from them
+     */
+    public static final class Builder {
+        private final List<ProductStockRow> rows = new ArrayList<>();
+
+        public Builder add(ProductStockRow row) {
+            rows.add(row);
+            return this;
+        }
+
+        public CatalogSnapshot build() {
+            rows.sort(Comparator.comparingInt(ProductStockRow::getProductId));
+            int size = rows.size();
+
+            Map<String, Integer> categoryRefs = new HashMap<>();
+            Map<Integer, Integer> supplierRefs = new HashMap<>();
+            List<String> categories = new ArrayList<>();
+            List<ProductStockRow> suppliers = new ArrayList<>();
+
+            CatalogSnapshot snapshot = new CatalogSnapshot(
+                new int[size], new String[size], new String[size], new int[size], new int[size],
+                new long[size], new int[size], new int[size], null, null, null);
+            for (int row = 0; row < size; row++) {
+                ProductStockRow product = rows.get(row);
+                int category = categoryRefs.computeIfAbsent(product.getCategory(), key -> {
+                    categories.add(key);
+                    return categories.size() - 1;
+                });
+                int supplier = supplierRefs.computeIfAbsent(product.getSupplierId(), key -> {
+                    suppliers.add(product);
+                    return suppliers.size() - 1;
+                });
+                snapshot.set(row, product, category, supplier);
+            }
+
+            int[] supplierIds = new int[suppliers.size()];
+            String[] supplierNames = new String[suppliers.size()];
+            for (int i = 0; i < suppliers.size(); i++) {
+                supplierIds[i] = suppliers.get(i).getSupplierId();
+                supplierNames[i] = suppliers.get(i).getSupplierName();
+            }
+            return new CatalogSnapshot(snapshot.ids, snapshot.names, snapshot.codes, snapshot.categoryRefs,
+                                       snapshot.supplierRefs, snapshot.priceCents, snapshot.stock,
+                                       snapshot.reorderLevels, categories.toArray(new String[0]),
+                                       supplierIds, supplierNames);
+        }
+    }
+}
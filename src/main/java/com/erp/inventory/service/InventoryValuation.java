@@ -0,0 +1,156 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.model.Money;
+import com.erp.inventory.model.Product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running stock valuation totals, overall and per category.
+ * Keeps the category, price and stock of every product so a change to one product
+ * moves only its own contribution: the old one is subtracted and the new one added.
+ * Reading the totals then costs one step per category, however large the catalog.
+ * Amounts are kept in cents, with overflow checks.
+ */
+public class InventoryValuation {
+    // Guarded by this
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final TreeMap<String, Totals> totalsByCategory = new TreeMap<>();
+    private long totalValueCents;
+    private long totalUnits;
+
+    /**
+     * Add or replace a product's contribution
+     * @param product Product as now stored
+     */
+    public synchronized void put(Product product) {
+        put(product.getProductId(), product.getCategory(), product.getUnitPriceCents(),
+            product.getStockQuantity() != null ? product.getStockQuantity() : 0);
+    }
+
+    /**
+     * Add or replace a product's contribution
+     * @param row Stock row as now stored
+     */
+    public synchronized void put(ProductStockRow row) {
+        put(row.getProductId(), row.getCategory(), row.getUnitPriceCents(), row.getStockQuantity());
+    }
+
+    /**
+     * Update the stock of a known product
+     * @param productId Product ID
+     * @param stockQuantity New stock quantity
+     */
+    public synchronized void setStock(Integer productId, int stockQuantity) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            put(productId, entry.category, entry.unitPriceCents, stockQuantity);
+        }
+    }
+
+    /**
+     * Remove a product's contribution
+     * @param productId Product ID
+     */
+    public synchronized void remove(Integer productId) {
+        Entry entry = entries.remove(productId);
+        if (entry != null) {
+            subtract(entry);
+        }
+    }
+
+    /**
+     * Remove every product
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalsByCategory.clear();
+        totalValueCents = 0;
+        totalUnits = 0;
+    }
+
+    /**
+     * Get the totals of each category
+     * @return One valuation per category, ordered by category
+     */
+    public synchronized List<CategoryValuation> getCategoryValuations() {
+        List<CategoryValuation> valuations = new ArrayList<>(totalsByCategory.size());
+        for (Map.Entry<String, Totals> entry : totalsByCategory.entrySet()) {
+            Totals totals = entry.getValue();
+            valuations.add(new CategoryValuation(entry.getKey(), totals.items, totals.units,
+                                                 Money.toBigDecimal(totals.valueCents)));
+        }
+        return valuations;
+    }
+
+    /**
+     * Get the value of all stock
+     * @return sum of unit price times stock quantity over all products
+     */
+    public synchronized BigDecimal getTotalValue() {
+        return Money.toBigDecimal(totalValueCents);
+    }
+
+    public synchronized long getTotalUnits() {
+        return totalUnits;
+    }
+
+    public synchronized int getProductCount() {
+        return entries.size();
+    }
+
+    private void put(int productId, String category, long unitPriceCents, int stockQuantity) {
+        Entry entry = new Entry(category, unitPriceCents, stockQuantity);
+        Entry old = entries.put(productId, entry);
+        if (old != null) {
+            subtract(old);
+        }
+
+        Totals totals = totalsByCategory.computeIfAbsent(category, key -> new Totals());
+        totals.items++;
+        totals.units += stockQuantity;
+        totals.valueCents = Money.addCents(totals.valueCents, entry.valueCents());
+        totalUnits += stockQuantity;
+        totalValueCents = Money.addCents(totalValueCents, entry.valueCents());
+    }
+
+    private void subtract(Entry entry) {
+        Totals totals = totalsByCategory.get(entry.category);
+        totals.units -= entry.stockQuantity;
+        totals.valueCents -= entry.valueCents();
+        if (--totals.items == 0) {
+            totalsByCategory.remove(entry.category);
+        }
+        totalUnits -= entry.stockQuantity;
+        totalValueCents -= entry.valueCents();
+    }
+
+    private static final class Entry {
+        private final String category;
+        private final long unitPriceCents;
+        private final int stockQuantity;
+
+        private Entry(String category, long unitPriceCents, int stockQuantity) {
+            this.category = category;
+            this.unitPriceCents = unitPriceCents;
+            this.stockQuantity = stockQuantity;
+        }
+
+        private long valueCents() {
+            return Money.multiplyCents(unitPriceCents, stockQuantity);
+        }
+    }
+
+    private static final class Totals {
+        private long items;
+        private long units;
+        private long valueCents;
+    }
+}
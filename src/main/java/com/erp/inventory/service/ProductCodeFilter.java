@@ -0,0 +1,173 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.util.BloomFilter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers "is this product code definitely unused?" without a query where possible.
+ * A Bloom filter holds every active product code, built on first use and extended
+ * as products are written; a code it has never seen cannot be in use. Codes it
+ * reports as possibly used, but that the database then did not find, are remembered
+ * as unused for a short time.
+ * Codes written by other processes are not seen until the next rebuild, so the
+ * unique constraint on product_code remains the final check.
+ */
+public class ProductCodeFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ProductCodeFilter.class);
+
+    private static final int MIN_EXPECTED_CODES = 1024;
+    private static final int MAX_NEGATIVE_ENTRIES = 10_000;
+
+    private final ProductDAO productDAO;
+    private final double falsePositiveRate;
+    private final long negativeTtlNanos;
+
+    private volatile BloomFilter filter;
+
+    // Non-null while a filter is being built, collecting codes written meanwhile; guarded by buildLock
+    private final Object buildLock = new Object();
+    private List<String> addedWhileBuilding;
+
+    // Guarded by itself; code -> time after which the miss must be checked again
+    private final LinkedHashMap<String, Long> knownMissing = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_NEGATIVE_ENTRIES;
+        }
+    };
+
+    /**
+     * @param productDAO DAO to read existing product codes from
+     * @param falsePositiveRate Bloom filter false positive rate
+     * @param negativeTtlMillis Time a database miss is trusted, 0 to not remember misses
+     */
+    public ProductCodeFilter(ProductDAO productDAO, double falsePositiveRate, long negativeTtlMillis) {
+        this.productDAO = productDAO;
+        this.falsePositiveRate = falsePositiveRate;
+        this.negativeTtlNanos = Math.max(0, negativeTtlMillis) * 1_000_000L;
+    }
+
+    /**
+     * Check whether a product code is certainly not used by an active product
+     * @param productCode Product code
+     * @return true if the code is unused; false if it may be used and the database must be asked
+     * @throws SQLException if the filter has to be built and reading codes fails
+     */
+    public boolean isDefinitelyUnused(String productCode) throws SQLException {
+        if (!currentFilter().mightContain(productCode)) {
+            return true;
+        }
+        if (negativeTtlNanos == 0) {
+            return false;
+        }
+        synchronized (knownMissing) {
+            Long expiresAt = knownMissing.get(productCode);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (System.nanoTime() - expiresAt > 0) {
+                knownMissing.remove(productCode);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Remember that the database did not find a product code
+     * @param productCode Product code
+     */
+    public void recordMissing(String productCode) {
+        if (negativeTtlNanos == 0) {
+            return;
+        }
+        synchronized (knownMissing) {
+            knownMissing.put(productCode, System.nanoTime() + negativeTtlNanos);
+        }
+    }
+
+    /**
+     * Record a product code that was just written
+     * @param productCode Product code
+     */
+    public void add(String productCode) {
+        if (productCode == null) {
+            return;
+        }
+        synchronized (knownMissing) {
+            knownMissing.remove(productCode);
+        }
+        synchronized (buildLock) {
+            if (addedWhileBuilding != null) {
+                addedWhileBuilding.add(productCode);
+            }
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.add(productCode);
+        }
+    }
+
+    /**
+     * Drop the filter so the next check rebuilds it from the database
+     */
+    public void reset() {
+        filter = null;
+        synchronized (knownMissing) {
+            knownMissing.clear();
+        }
+    }
+
+    private BloomFilter currentFilter() throws SQLException {
+        BloomFilter current = filter;
+        if (current != null && !current.isSaturated()) {
+            return current;
+        }
+        synchronized (this) {
+            current = filter;
+            if (current == null || current.isSaturated()) {
+                current = build(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Build a filter sized for twice the current codes, so it survives a bulk load of
+     * the same size before it has to be rebuilt.
+     * Codes written while the scan runs may be missed by it, so they are added afterwards,
+     * in the same step that installs the new filter.
+     */
+    private BloomFilter build(BloomFilter previous) throws SQLException {
+        long expected = Math.max(productDAO.count(), previous != null ? previous.getInsertionCount() : 0) * 2;
+        BloomFilter built = new BloomFilter(Math.max(MIN_EXPECTED_CODES, expected), falsePositiveRate);
+
+        synchronized (buildLock) {
+            addedWhileBuilding = new ArrayList<>();
+        }
+        boolean scanned = false;
+        try {
+            productDAO.forEachProductCode(built::add);
+            scanned = true;
+        } finally {
+            synchronized (buildLock) {
+                if (scanned) {
+                    addedWhileBuilding.forEach(built::add);
+                    filter = built;
+                }
+                addedWhileBuilding = null;
+            }
+        }
+        logger.info("Built product code filter with {} codes", built.getInsertionCount());
+        return built;
+    }
+}
@@ -0,0 +1,407 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.PrefixIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over product names and codes for substring search.
+ * Every three-character window of a lowercased name or code maps to a sorted list of
+ * product IDs. A query's trigram lists are intersected, smallest first, and the
+ * surviving products are checked for the whole query and ranked: exact name, name
+ * prefix, word prefix, anywhere in the name, then code matches.
+ * Product names are also kept in a {@link PrefixIndex} for type-ahead completion.
+ * The index loads in the background on first use; until then search returns empty
+ * and callers fall back to SQL. Product changes are applied incrementally.
+ */
+public class ProductSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_NAME_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_NAME = 3;
+    private static final int RANK_CODE = 4;
+
+    private final ProductDAO productDAO;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Map<Integer, Entry> entries = new HashMap<>();
+    private Map<Long, PostingList> postings = new HashMap<>();
+    private boolean ready;
+    private boolean loading;
+    private final Set<Integer> changedWhileLoading = new HashSet<>();
+
+    // Immutable, so completions read it without the lock; null until loaded
+    private volatile PrefixIndex names;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-search-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param productDAO DAO to load products from
+     */
+    public ProductSearchIndex(ProductDAO productDAO) {
+        this.productDAO = productDAO;
+    }
+
+    /**
+     * Find products whose name or code contains the query, ignoring case
+     * @param query Search text
+     * @return IDs of matching products, best match first; empty if the index is
+     *         still loading, in which case the caller should query the database
+     */
+    public Optional<List<Integer>> search(String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                startLoading();
+                return Optional.empty();
+            }
+
+            List<Match> matches = new ArrayList<>();
+            if (needle.length() < 3) {
+                // Too short for a trigram; the entries are in memory, so check them all
+                for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+                    addIfMatches(matches, entry.getKey(), entry.getValue(), needle);
+                }
+            } else {
+                for (int id : candidates(needle)) {
+                    addIfMatches(matches, id, entries.get(id), needle);
+                }
+            }
+
+            matches.sort(Comparator.comparingInt((Match match) -> match.rank)
+                                   .thenComparing(match -> match.entry.name)
+                                   .thenComparingInt(match -> match.productId));
+            List<Integer> ids = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                ids.add(match.productId);
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Complete a product name prefix
+     * @param prefix Start of a product name
+     * @param limit Maximum number of completions
+     * @return completions in name order; empty if the index is still loading
+     */
+    public Optional<List<PrefixIndex.Completion>> complete(String prefix, int limit) {
+        PrefixIndex current = names;
+        if (current == null) {
+            lock.readLock().lock();
+            try {
+                if (!ready) {
+                    startLoading();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return Optional.empty();
+        }
+        return Optional.of(current.complete(prefix, limit));
+    }
+
+    /**
+     * Apply a committed product change
+     * @param productId Product ID
+     * @param product Product as now stored, or null if it was deleted
+     */
+    public void productChanged(Integer productId, Product product) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                // The load may have read the old row; re-read this product once it finishes
+                changedWhileLoading.add(productId);
+            } else if (ready) {
+                removeEntry(productId);
+                if (product != null) {
+                    addEntry(entries, postings, product);
+                }
+                names = names.with(productId, product != null ? product.getProductName() : null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the index; the next search starts a reload
+     */
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            if (!loading) {
+                ready = false;
+                names = null;
+                entries = new HashMap<>();
+                postings = new HashMap<>();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stop the background loader
+     */
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Start a background load unless one is running. Called with the read lock held,
+     * so the flag is set under a separate monitor.
+     */
+    private void startLoading() {
+        synchronized (changedWhileLoading) {
+            if (loading) {
+                return;
+            }
+            loading = true;
+        }
+        loader.execute(this::load);
+    }
+
+    private void load() {
+        Map<Integer, Entry> loadedEntries = new HashMap<>();
+        Map<Long, PostingList> loadedPostings = new HashMap<>();
+        Map<Integer, String> loadedNames = new HashMap<>();
+        Set<Integer> changed;
+        try {
+            productDAO.forEachProduct(product -> {
+                addEntry(loadedEntries, loadedPostings, product);
+                loadedNames.put(product.getProductId(), product.getProductName());
+            });
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("Loading product search index failed, searches stay on the database: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                changedWhileLoading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        PrefixIndex loadedNameIndex = PrefixIndex.build(loadedNames);
+        lock.writeLock().lock();
+        try {
+            entries = loadedEntries;
+            names = loadedNameIndex;
+            postings = loadedPostings;
+            ready = true;
+            loading = false;
+            changed = new HashSet<>(changedWhileLoading);
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Product search index loaded with {} products", loadedEntries.size());
+
+        for (Integer productId : changed) {
+            try {
+                productChanged(productId, productDAO.findById(productId).orElse(null));
+            } catch (SQLException e) {
+                logger.warn("Could not refresh product {} in search index: {}", productId, e.getMessage());
+                reset();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Intersect the posting lists of the query's trigrams, smallest list first
+     */
+    private int[] candidates(String needle) {
+        List<PostingList> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            PostingList list = postings.get(trigram(needle, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int resultSize = result.length;
+        for (int l = 1; l < lists.size() && resultSize > 0; l++) {
+            PostingList list = lists.get(l);
+            int kept = 0;
+            for (int i = 0; i < resultSize; i++) {
+                if (Arrays.binarySearch(list.ids, 0, list.size, result[i]) >= 0) {
+                    result[kept++] = result[i];
+                }
+            }
+            resultSize = kept;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private static void addIfMatches(List<Match> matches, int productId, Entry entry, String needle) {
+        int rank = rank(entry, needle);
+        if (rank >= 0) {
+            matches.add(new Match(productId, entry, rank));
+        }
+    }
+
+    private static int rank(Entry entry, String needle) {
+        int position = entry.name.indexOf(needle);
+        if (position == 0) {
+            return entry.name.length() == needle.length() ? RANK_EXACT : RANK_NAME_PREFIX;
+        }
+        while (position > 0) {
+            if (!Character.isLetterOrDigit(entry.name.charAt(position - 1))) {
+                return RANK_WORD_PREFIX;
+            }
+            position = entry.name.indexOf(needle, position + 1);
+        }
+        if (entry.name.contains(needle)) {
+            return RANK_NAME;
+        }
+        if (entry.code != null && entry.code.contains(needle)) {
+            return RANK_CODE;
+        }
+        return -1;
+    }
+
+    private static void addEntry(Map<Integer, Entry> entries, Map<Long, PostingList> postings, Product product) {
+        Entry entry = new Entry(product.getProductName().toLowerCase(Locale.ROOT),
+                                product.getProductCode() != null ? product.getProductCode().toLowerCase(Locale.ROOT) : null);
+        entries.put(product.getProductId(), entry);
+        for (long trigram : entry.trigrams()) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(product.getProductId());
+        }
+    }
+
+    private void removeEntry(Integer productId) {
+        Entry entry = entries.remove(productId);
+        if (entry == null) {
+            return;
+        }
+        for (long trigram : entry.trigrams()) {
+            PostingList list = postings.get(trigram);
+            if (list != null && list.remove(productId) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Pack three characters into one key
+     */
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final String code;
+
+        private Entry(String name, String code) {
+            this.name = name;
+            this.code = code;
+        }
+
+        private Set<Long> trigrams() {
+            Set<Long> trigrams = new HashSet<>();
+            addTrigrams(trigrams, name);
+            if (code != null) {
+                addTrigrams(trigrams, code);
+            }
+            return trigrams;
+        }
+
+        private static void addTrigrams(Set<Long> trigrams, String text) {
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                trigrams.add(trigram(text, i));
+            }
+        }
+    }
+
+    /**
+     * Sorted, growable list of product IDs
+     */
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            // IDs mostly arrive in increasing order, so this is usually an append
+            int index = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0 && index < size) {
+                return;
+            }
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private static final class Match {
+        private final int productId;
+        private final Entry entry;
+        private final int rank;
+
+        private Match(int productId, Entry entry, int rank) {
+            this.productId = productId;
+            this.entry = entry;
+            this.rank = rank;
+        }
+    }
+}
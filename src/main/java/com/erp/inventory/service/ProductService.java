@@ -1,19 +1,36 @@
 package com.erp.inventory.service;
 
+import com.erp.inventory.dao.CachingProductDAO;
+import com.erp.inventory.dao.CachingSupplierDAO;
+import com.erp.inventory.dao.CategoryCachingProductDAO;
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.Page;
+import com.erp.inventory.dao.PageCursor;
 import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.dao.ProductStockRow;
 import com.erp.inventory.dao.SupplierDAO;
 import com.erp.inventory.dao.impl.ProductDAOImpl;
 import com.erp.inventory.dao.impl.SupplierDAOImpl;
 import com.erp.inventory.model.Product;
 import com.erp.inventory.model.Supplier;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.PrefixIndex;
+import com.erp.inventory.util.StockVersions;
+import com.erp.inventory.util.TransactionManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Service class for Product business logic operations
@@ -21,23 +38,145 @@ import java.util.Optional;
 public class ProductService {
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
     
+    private static final int DEFAULT_CACHE_MAX_SIZE = 1000;
+    private static final long DEFAULT_CACHE_TTL_MS = 60_000;
+    private static final long DEFAULT_CATEGORY_RESYNC_MS = 300_000;
+    private static final long DEFAULT_SUPPLIER_REFRESH_MS = 30_000;
+    private static final long DEFAULT_SUPPLIER_FULL_RELOAD_MS = 600_000;
+    private static final double DEFAULT_CODE_FILTER_FPP = 0.01;
+    private static final long DEFAULT_CODE_NEGATIVE_TTL_MS = 5_000;
+    
     private final ProductDAO productDAO;
     private final SupplierDAO supplierDAO;
+    
+    // Set when products are read through a cache that needs to hear about outside stock changes
+    private final CachingProductDAO productCache;
+    
+    // Skips the product code uniqueness query for codes that cannot exist; null when disabled
+    private final ProductCodeFilter productCodeFilter;
+    
+    // Answers barcode scans from memory once loaded; null when disabled.
+    // Changes are applied under its monitor so they cannot interleave with the initial load.
+    private final BarcodeIndex barcodeIndex;
+    private volatile boolean barcodeIndexLoaded;
+
+    // Answers name searches from memory once loaded in the background; null when disabled
+    private final ProductSearchIndex searchIndex;
+
+    // Running stock value totals for the reports, loaded on first use; null when disabled.
+    // Loaded under its monitor, which its own methods also take.
+    private final InventoryValuation valuation;
+    private volatile boolean valuationLoaded;
+
+    // Columnar copy of the catalog for row-level reports, loaded on first use; null until loaded.
+    // Writers only queue their changes in the pending maps, without taking catalogLock; a report
+    // applies the queue under catalogLock before it reads. Loads scan the database under
+    // catalogLoadLock, so writers and readers of a loaded snapshot never wait for a scan.
+    private final boolean catalogEnabled;
+    private final Object catalogLock = new Object();
+    private final Object catalogLoadLock = new Object();
+    private volatile CatalogSnapshot catalog;
+    // Set while a snapshot is loaded or loading; changes are queued only then
+    private volatile boolean catalogTracked;
+    // Changed product rows, empty when the product was removed, and stock levels.
+    // Both are written only through stockLevels, so each holds a product's newest change.
+    private final Map<Integer, Optional<ProductStockRow>> pendingProducts = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> pendingStock = new ConcurrentHashMap<>();
+    private final ReportService reports = new ReportService();
+
+    // Orders the stock levels pushed to the barcode index, valuation and catalog snapshot
+    private final StockLevels stockLevels = new StockLevels();
 
     /**
-     * Default constructor using DAO implementations
+     * Default constructor using DAO implementations.
+     * Product lookups go through a cache unless cache.product.max.size is 0.
      */
     public ProductService() {
-        this.productDAO = new ProductDAOImpl();
-        this.supplierDAO = new SupplierDAOImpl();
+        this(createSupplierDAO());
+    }
+
+    /**
+     * Constructor sharing a supplier DAO, so the UI and the service use one supplier cache
+     */
+    public ProductService(SupplierDAO supplierDAO) {
+        this(createProductDAO(supplierDAO), supplierDAO, true);
     }
 
     /**
      * Constructor for dependency injection (useful for testing)
      */
     public ProductService(ProductDAO productDAO, SupplierDAO supplierDAO) {
+        this(productDAO, supplierDAO, false);
+    }
+
+    private ProductService(ProductDAO productDAO, SupplierDAO supplierDAO, boolean useMemoryIndexes) {
         this.productDAO = productDAO;
         this.supplierDAO = supplierDAO;
+        this.productCache = productDAO instanceof CachingProductDAO ? (CachingProductDAO) productDAO : null;
+        this.productCodeFilter = useMemoryIndexes ? createProductCodeFilter(productDAO) : null;
+        this.barcodeIndex = useMemoryIndexes
+            && Boolean.parseBoolean(DatabaseUtil.getProperty("cache.barcode.index.enabled", "true"))
+            ? new BarcodeIndex() : null;
+        this.searchIndex = useMemoryIndexes
+            && Boolean.parseBoolean(DatabaseUtil.getProperty("cache.search.index.enabled", "true"))
+            ? new ProductSearchIndex(productDAO) : null;
+        this.valuation = useMemoryIndexes
+            && Boolean.parseBoolean(DatabaseUtil.getProperty("cache.valuation.enabled", "true"))
+            ? new InventoryValuation() : null;
+        this.catalogEnabled = useMemoryIndexes
+            && Boolean.parseBoolean(DatabaseUtil.getProperty("cache.catalog.snapshot.enabled", "true"));
+    }
+
+    /**
+     * Create the product DAO. With cache.supplier.enrich.products=true and a supplier cache,
+     * product queries skip the suppliers join and take supplier names from the cache.
+     * Categories are kept in memory unless cache.category.resync.ms is negative.
+     */
+    private static ProductDAO createProductDAO(SupplierDAO supplierDAO) {
+        boolean enrichInMemory = supplierDAO instanceof CachingSupplierDAO
+            && Boolean.parseBoolean(DatabaseUtil.getProperty("cache.supplier.enrich.products", "false"));
+        ProductDAO productDAO = enrichInMemory ? new ProductDAOImpl(supplierDAO) : new ProductDAOImpl();
+        
+        long categoryResyncMillis = DatabaseUtil.getLongProperty("cache.category.resync.ms", DEFAULT_CATEGORY_RESYNC_MS);
+        if (categoryResyncMillis >= 0) {
+            productDAO = new CategoryCachingProductDAO(productDAO, categoryResyncMillis);
+        }
+        
+        int cacheSize = DatabaseUtil.getIntProperty("cache.product.max.size", DEFAULT_CACHE_MAX_SIZE);
+        if (cacheSize <= 0) {
+            return productDAO;
+        }
+        return new CachingProductDAO(productDAO, cacheSize,
+                                     DatabaseUtil.getLongProperty("cache.product.ttl.ms", DEFAULT_CACHE_TTL_MS));
+    }
+
+    /**
+     * Create the product code filter unless cache.product.code.filter.fpp is 0
+     */
+    private static ProductCodeFilter createProductCodeFilter(ProductDAO productDAO) {
+        double falsePositiveRate = Double.parseDouble(
+            DatabaseUtil.getProperty("cache.product.code.filter.fpp", String.valueOf(DEFAULT_CODE_FILTER_FPP)));
+        if (falsePositiveRate <= 0) {
+            return null;
+        }
+        return new ProductCodeFilter(productDAO, falsePositiveRate,
+                                     DatabaseUtil.getLongProperty("cache.product.code.negative.ttl.ms",
+                                                                  DEFAULT_CODE_NEGATIVE_TTL_MS));
+    }
+
+    /**
+     * Create the supplier DAO, keeping all active suppliers in memory unless
+     * cache.supplier.refresh.ms is negative
+     * @return supplier DAO
+     */
+    public static SupplierDAO createSupplierDAO() {
+        long refreshMillis = DatabaseUtil.getLongProperty("cache.supplier.refresh.ms", DEFAULT_SUPPLIER_REFRESH_MS);
+        if (refreshMillis < 0) {
+            return new SupplierDAOImpl();
+        }
+        return new CachingSupplierDAO(new SupplierDAOImpl(), refreshMillis,
+                                      DatabaseUtil.getLongProperty("cache.supplier.full.reload.ms",
+                                                                   DEFAULT_SUPPLIER_FULL_RELOAD_MS));
     }
 
     /**
@@ -51,28 +190,39 @@ public class ProductService {
         // Validate input
         validateProductData(productName, productCode, category, unitPrice, stockQuantity, reorderLevel, supplierId);
         
-        // Check if product code already exists
-        if (productCode != null && !productCode.trim().isEmpty()) {
-            Product existingProduct = productDAO.findByProductCode(productCode);
-            if (existingProduct != null) {
+        // Checks and insert share one connection and commit together
+        return TransactionManager.inTransaction(() -> {
+            // Check if product code already exists
+            if (productCode != null && !productCode.trim().isEmpty() && isProductCodeTaken(productCode, null)) {
                 throw new ValidationException("Product code already exists: " + productCode);
             }
-        }
-        
-        // Verify supplier exists
-        Optional<Supplier> supplier = supplierDAO.findById(supplierId);
-        if (!supplier.isPresent()) {
-            throw new ValidationException("Supplier not found with ID: " + supplierId);
-        }
-        
-        // Create product
-        Product product = new Product(productName, productCode, category, description, 
-                                    unitPrice, stockQuantity, reorderLevel, supplierId);
-        
-        Product savedProduct = productDAO.save(product);
-        logger.info("Product created successfully with ID: {}", savedProduct.getProductId());
-        
-        return savedProduct;
+            
+            // Verify supplier exists
+            Optional<Supplier> supplier = supplierDAO.findById(supplierId);
+            if (!supplier.isPresent()) {
+                throw new ValidationException("Supplier not found with ID: " + supplierId);
+            }
+            
+            // Create product
+            Product product = new Product(productName, productCode, category, description, 
+                                        unitPrice, stockQuantity, reorderLevel, supplierId);
+            
+            Product savedProduct;
+            try {
+                savedProduct = productDAO.save(product);
+            } catch (SQLException e) {
+                // The filter may have let a code written elsewhere through; the unique constraint catches it
+                if (DatabaseUtil.getDialect().isUniqueViolation(e)) {
+                    throw new ValidationException("Product code already exists: " + productCode, e);
+                }
+                throw e;
+            }
+            productCodeAdded(savedProduct.getProductCode());
+            refreshIndexesAfterCompletion(savedProduct.getProductId(), StockVersions.next());
+            logger.info("Product created successfully with ID: {}", savedProduct.getProductId());
+            
+            return savedProduct;
+        });
     }
 
     /**
@@ -87,41 +237,52 @@ public class ProductService {
         // Validate input
         validateProductData(productName, productCode, category, unitPrice, stockQuantity, reorderLevel, supplierId);
         
-        // Check if product exists
-        Optional<Product> existingProductOpt = productDAO.findById(productId);
-        if (!existingProductOpt.isPresent()) {
-            throw new ValidationException("Product not found with ID: " + productId);
-        }
-        
-        // Check if product code is unique (if changed)
-        if (productCode != null && !productCode.trim().isEmpty()) {
-            Product productWithCode = productDAO.findByProductCode(productCode);
-            if (productWithCode != null && !productWithCode.getProductId().equals(productId)) {
+        // Checks and update share one connection and commit together
+        return TransactionManager.inTransaction(() -> {
+            // Check if product exists
+            Optional<Product> existingProductOpt = productDAO.findById(productId);
+            if (!existingProductOpt.isPresent()) {
+                throw new ValidationException("Product not found with ID: " + productId);
+            }
+            
+            // Check if product code is unique (if changed)
+            if (productCode != null && !productCode.trim().isEmpty() && isProductCodeTaken(productCode, productId)) {
                 throw new ValidationException("Product code already exists: " + productCode);
             }
-        }
-        
-        // Verify supplier exists
-        Optional<Supplier> supplier = supplierDAO.findById(supplierId);
-        if (!supplier.isPresent()) {
-            throw new ValidationException("Supplier not found with ID: " + supplierId);
-        }
-        
-        // Update product
-        Product existingProduct = existingProductOpt.get();
-        existingProduct.setProductName(productName);
-        existingProduct.setProductCode(productCode);
-        existingProduct.setCategory(category);
-        existingProduct.setDescription(description);
-        existingProduct.setUnitPrice(unitPrice);
-        existingProduct.setStockQuantity(stockQuantity);
-        existingProduct.setReorderLevel(reorderLevel);
-        existingProduct.setSupplierId(supplierId);
-        
-        Product updatedProduct = productDAO.update(existingProduct);
-        logger.info("Product updated successfully: {}", productId);
-        
-        return updatedProduct;
+            
+            // Verify supplier exists
+            Optional<Supplier> supplier = supplierDAO.findById(supplierId);
+            if (!supplier.isPresent()) {
+                throw new ValidationException("Supplier not found with ID: " + supplierId);
+            }
+            
+            // Update product
+            Product existingProduct = existingProductOpt.get();
+            String previousCategory = existingProduct.getCategory();
+            existingProduct.setProductName(productName);
+            existingProduct.setProductCode(productCode);
+            existingProduct.setCategory(category);
+            existingProduct.setDescription(description);
+            existingProduct.setUnitPrice(unitPrice);
+            existingProduct.setStockQuantity(stockQuantity);
+            existingProduct.setReorderLevel(reorderLevel);
+            existingProduct.setSupplierId(supplierId);
+            
+            Product updatedProduct;
+            try {
+                updatedProduct = productDAO.update(existingProduct, previousCategory);
+            } catch (SQLException e) {
+                if (DatabaseUtil.getDialect().isUniqueViolation(e)) {
+                    throw new ValidationException("Product code already exists: " + productCode, e);
+                }
+                throw e;
+            }
+            productCodeAdded(updatedProduct.getProductCode());
+            refreshIndexesAfterCompletion(productId, StockVersions.next());
+            logger.info("Product updated successfully: {}", productId);
+            
+            return updatedProduct;
+        });
     }
 
     /**
@@ -141,14 +302,78 @@ public class ProductService {
     }
 
     /**
-     * Search products by name
+     * Find one page of products ordered by name
+     */
+    public Page<Product> findProductsPage(PageCursor after, int pageSize) throws SQLException {
+        logger.debug("Finding products page after {}", after);
+        return productDAO.findAllPage(after, pageSize);
+    }
+
+    /**
+     * Visit all products one at a time without loading the whole catalog
+     */
+    public void forEachProduct(Consumer<Product> action) throws SQLException {
+        logger.debug("Streaming all products");
+        productDAO.forEachProduct(action);
+    }
+
+    /**
+     * Search products by name.
+     * Once the search index is loaded, also matches product codes and returns the best
+     * matches first; until then the database is searched by name.
      */
     public List<Product> searchProductsByName(String name) throws SQLException {
         logger.debug("Searching products by name: {}", name);
         if (name == null || name.trim().isEmpty()) {
             return findAllProducts();
         }
-        return productDAO.findByName(name.trim());
+        Optional<List<Integer>> rankedIds = searchIndex != null ? searchIndex.search(name.trim()) : Optional.empty();
+        if (!rankedIds.isPresent()) {
+            return productDAO.findByName(name.trim());
+        }
+
+        Map<Integer, Product> productsById = productDAO.findAllByIds(rankedIds.get());
+        List<Product> products = new ArrayList<>(productsById.size());
+        for (Integer productId : rankedIds.get()) {
+            Product product = productsById.get(productId);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Complete a product name prefix for type-ahead search.
+     * Served from the search index once it is loaded; until then, or when it is
+     * disabled, from a name search in the database.
+     */
+    public List<PrefixIndex.Completion> completeProductName(String prefix, int limit) throws SQLException {
+        Optional<List<PrefixIndex.Completion>> completions =
+            searchIndex != null ? searchIndex.complete(prefix, limit) : Optional.empty();
+        if (completions.isPresent()) {
+            return completions.get();
+        }
+        Map<Integer, String> names = new HashMap<>();
+        for (Product product : productDAO.findByName(prefix.trim())) {
+            names.put(product.getProductId(), product.getProductName());
+        }
+        return PrefixIndex.build(names).complete(prefix, limit);
+    }
+
+    /**
+     * Complete a supplier company name prefix for type-ahead search.
+     * Served from memory when suppliers are cached.
+     */
+    public List<PrefixIndex.Completion> completeSupplierName(String prefix, int limit) throws SQLException {
+        if (supplierDAO instanceof CachingSupplierDAO) {
+            return ((CachingSupplierDAO) supplierDAO).completeCompanyName(prefix, limit);
+        }
+        Map<Integer, String> names = new HashMap<>();
+        for (Supplier supplier : supplierDAO.findByName(prefix.trim())) {
+            names.put(supplier.getSupplierId(), supplier.getCompanyName());
+        }
+        return PrefixIndex.build(names).complete(prefix, limit);
     }
 
     /**
@@ -159,6 +384,14 @@ public class ProductService {
         return productDAO.findByCategory(category);
     }
 
+    /**
+     * Find several products by ID, keyed by product ID
+     */
+    public Map<Integer, Product> findProductsByIds(Collection<Integer> ids) throws SQLException {
+        logger.debug("Finding {} products by ID", ids.size());
+        return productDAO.findAllByIds(ids);
+    }
+
     /**
      * Find products by supplier
      */
@@ -183,6 +416,79 @@ public class ProductService {
         return productDAO.getLowStockProducts();
     }
 
+    /**
+     * Get the stock report columns of low stock products, without loading full products.
+     * Scanned from the catalog snapshot when enabled.
+     */
+    public List<ProductStockRow> getLowStockRows() throws SQLException {
+        logger.debug("Getting low stock rows");
+        if (catalogEnabled) {
+            return reports.getLowStockRows(currentCatalog());
+        }
+        return productDAO.getLowStockRows();
+    }
+
+    /**
+     * Get stock totals per category.
+     * Served from the running valuation totals once loaded; when they are disabled,
+     * summed over the catalog snapshot or else aggregated by the database.
+     */
+    public List<CategoryValuation> getCategoryValuations() throws SQLException {
+        logger.debug("Getting category valuations");
+        if (valuation == null) {
+            return catalogEnabled ? reports.getCategoryValuations(currentCatalog()) : productDAO.getCategoryValuations();
+        }
+        if (!valuationLoaded) {
+            loadValuation();
+        }
+        return valuation.getCategoryValuations();
+    }
+
+    /**
+     * Get the value of all stock
+     */
+    public BigDecimal getInventoryValue() throws SQLException {
+        if (valuation == null && catalogEnabled) {
+            return reports.getStockSummary(currentCatalog()).getTotalValue();
+        }
+        if (valuation == null) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (CategoryValuation categoryValuation : productDAO.getCategoryValuations()) {
+                total = total.add(categoryValuation.getTotalValue());
+            }
+            return total;
+        }
+        if (!valuationLoaded) {
+            loadValuation();
+        }
+        return valuation.getTotalValue();
+    }
+
+    /**
+     * Get a read-only columnar copy of the active products for ReportService.
+     * Kept current in memory when enabled; otherwise read from the database on each call.
+     */
+    public CatalogSnapshot getCatalogSnapshot() throws SQLException {
+        if (catalogEnabled) {
+            return currentCatalog();
+        }
+        CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+        productDAO.forEachStockRow(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Visit the stock report columns of all products one at a time, in name order
+     */
+    public void forEachStockRow(Consumer<ProductStockRow> action) throws SQLException {
+        logger.debug("Streaming product stock rows");
+        if (catalogEnabled) {
+            currentCatalog().forEachByName(action);
+            return;
+        }
+        productDAO.forEachStockRow(action);
+    }
+
     /**
      * Get distinct categories
      */
@@ -201,7 +507,13 @@ public class ProductService {
             throw new ValidationException("Stock quantity cannot be negative");
         }
         
-        boolean updated = productDAO.updateStockQuantity(productId, newQuantity);
+        boolean updated = TransactionManager.inTransaction(() -> {
+            boolean written = productDAO.updateStockQuantity(productId, newQuantity);
+            if (written) {
+                stockLevelChangedAfterCommit(productId, newQuantity);
+            }
+            return written;
+        });
         if (updated) {
             logger.info("Stock quantity updated successfully for product: {}", productId);
         } else {
@@ -212,23 +524,50 @@ public class ProductService {
     }
 
     /**
-     * Delete product (soft delete)
+     * Add to or remove from stock in one atomic update
+     * @return the new stock quantity
      */
-    public boolean deleteProduct(Integer productId) throws SQLException, ValidationException {
-        logger.info("Deleting product: {}", productId);
+    public int adjustStock(Integer productId, int delta) throws SQLException, ValidationException {
+        logger.info("Adjusting stock for product {} by {}", productId, delta);
         
-        // Check if product exists
-        Optional<Product> product = productDAO.findById(productId);
-        if (!product.isPresent()) {
-            throw new ValidationException("Product not found with ID: " + productId);
+        Optional<Integer> newQuantity = TransactionManager.inTransaction(() -> {
+            Optional<Integer> adjusted = productDAO.adjustStock(productId, delta, 0);
+            adjusted.ifPresent(quantity -> stockLevelChangedAfterCommit(productId, quantity));
+            return adjusted;
+        });
+        if (!newQuantity.isPresent()) {
+            // Only the failure path pays for the extra lookup
+            if (!productDAO.exists(productId)) {
+                throw new ValidationException("Product not found with ID: " + productId);
+            }
+            throw new ValidationException("Insufficient stock for product " + productId + " to remove " + (-delta));
         }
         
-        boolean deleted = productDAO.delete(productId);
-        if (deleted) {
-            logger.info("Product deleted successfully: {}", productId);
-        }
+        logger.info("Stock adjusted successfully for product {}: {}", productId, newQuantity.get());
+        return newQuantity.get();
+    }
+
+    /**
+     * Delete product (soft delete)
+     */
+    public boolean deleteProduct(Integer productId) throws SQLException, ValidationException {
+        logger.info("Deleting product: {}", productId);
         
-        return deleted;
+        return TransactionManager.inTransaction(() -> {
+            // Check if product exists
+            Optional<Product> product = productDAO.findById(productId);
+            if (!product.isPresent()) {
+                throw new ValidationException("Product not found with ID: " + productId);
+            }
+            
+            boolean deleted = productDAO.delete(productId, product.get().getCategory());
+            if (deleted) {
+                refreshIndexesAfterCompletion(productId, StockVersions.next());
+                logger.info("Product deleted successfully: {}", productId);
+            }
+            
+            return deleted;
+        });
     }
 
     /**
@@ -245,6 +584,62 @@ public class ProductService {
         return productDAO.exists(productId);
     }
 
+    /**
+     * Tell the service a product's stock was changed elsewhere; call after the change committed
+     */
+    public void stockChanged(Integer productId) {
+        if (productCache != null) {
+            productCache.invalidate(productId);
+        }
+        refreshIndexesAfterCompletion(productId, StockVersions.next());
+    }
+
+    /**
+     * Tell the service a product's stock was changed elsewhere and what it is now,
+     * e.g. by a recorded transaction
+     * @param stockVersion Version the level was written under, from StockVersions
+     */
+    public void stockChanged(Integer productId, int stockQuantity, long stockVersion) {
+        if (productCache != null) {
+            productCache.invalidate(productId);
+        }
+        stockLevelChanged(productId, stockQuantity, stockVersion);
+    }
+
+    /**
+     * Look up a scanned product code.
+     * Served from the in-memory barcode index, loaded on first use; no allocation
+     * or query happens per scan once the index is loaded.
+     * @param productCode Scanned product code
+     * @param into Record to fill in, reused across scans
+     * @return true if an active product has this code
+     */
+    public boolean lookupBarcode(String productCode, ScanRecord into) throws SQLException {
+        if (barcodeIndex == null) {
+            Product product = productDAO.findByProductCode(productCode);
+            if (product == null) {
+                return false;
+            }
+            into.productId = product.getProductId();
+            into.productName = product.getProductName();
+            into.unitPriceCents = product.getUnitPriceCents();
+            into.stockQuantity = product.getStockQuantity();
+            return true;
+        }
+        
+        if (!barcodeIndexLoaded) {
+            loadBarcodeIndex();
+        }
+        return barcodeIndex.lookup(productCode, into);
+    }
+
+    /**
+     * Get the product cache, if product lookups are cached
+     */
+    public Optional<CachingProductDAO> getProductCache() {
+        return Optional.ofNullable(productCache);
+    }
+
     /**
      * Get all suppliers for product creation/editing
      */
@@ -253,6 +648,227 @@ public class ProductService {
         return supplierDAO.findAll();
     }
 
+    /**
+     * Check whether an active product other than the given one uses a product code.
+     * Codes the filter has never seen are answered without a query.
+     */
+    private boolean isProductCodeTaken(String productCode, Integer exceptProductId) throws SQLException {
+        if (productCodeFilter != null && productCodeFilter.isDefinitelyUnused(productCode)) {
+            return false;
+        }
+        
+        Product productWithCode = productDAO.findByProductCode(productCode);
+        if (productWithCode == null) {
+            if (productCodeFilter != null) {
+                productCodeFilter.recordMissing(productCode);
+            }
+            return false;
+        }
+        return !productWithCode.getProductId().equals(exceptProductId);
+    }
+
+    private void loadBarcodeIndex() throws SQLException {
+        synchronized (barcodeIndex) {
+            if (barcodeIndexLoaded) {
+                return;
+            }
+            barcodeIndex.clear();
+            productDAO.forEachProduct(barcodeIndex::put);
+            barcodeIndexLoaded = true;
+            logger.info("Barcode index loaded with {} products", barcodeIndex.size());
+        }
+    }
+
+    private void loadValuation() throws SQLException {
+        synchronized (valuation) {
+            if (valuationLoaded) {
+                return;
+            }
+            valuation.clear();
+            productDAO.forEachStockRow(valuation::put);
+            valuationLoaded = true;
+            logger.info("Inventory valuation loaded with {} products", valuation.getProductCount());
+        }
+    }
+
+    private CatalogSnapshot currentCatalog() throws SQLException {
+        CatalogSnapshot current = catalog;
+        if (current != null && pendingProducts.isEmpty() && pendingStock.isEmpty()) {
+            return current;
+        }
+        if (current == null) {
+            current = loadCatalog();
+        }
+        synchronized (catalogLock) {
+            if (catalog == null) {
+                // Dropped by a failed refresh since it was read; serve it this once
+                return current;
+            }
+            if (!pendingProducts.isEmpty() || !pendingStock.isEmpty()) {
+                catalog = applyPendingChanges(catalog);
+            }
+            return catalog;
+        }
+    }
+
+    private CatalogSnapshot loadCatalog() throws SQLException {
+        synchronized (catalogLoadLock) {
+            CatalogSnapshot current = catalog;
+            if (current != null) {
+                return current;
+            }
+            // Changes committed from here on are queued and replayed over the scan,
+            // which may or may not have seen them
+            catalogTracked = true;
+            CatalogSnapshot.Builder builder = new CatalogSnapshot.Builder();
+            try {
+                productDAO.forEachStockRow(builder::add);
+            } catch (SQLException e) {
+                dropCatalog();
+                throw e;
+            }
+            CatalogSnapshot loaded = builder.build();
+            synchronized (catalogLock) {
+                if (catalogTracked) {
+                    catalog = loaded;
+                    logger.info("Catalog snapshot loaded with {} products", loaded.size());
+                }
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Apply the queued product and stock changes; call with catalogLock held
+     */
+    private CatalogSnapshot applyPendingChanges(CatalogSnapshot current) {
+        for (Integer productId : pendingProducts.keySet()) {
+            Optional<ProductStockRow> row = pendingProducts.remove(productId);
+            if (row != null) {
+                current = row.isPresent() ? current.with(row.get()) : current.without(productId);
+            }
+        }
+        if (!pendingStock.isEmpty()) {
+            Map<Integer, Integer> stockQuantities = new HashMap<>();
+            for (Integer productId : pendingStock.keySet()) {
+                Integer stockQuantity = pendingStock.remove(productId);
+                if (stockQuantity != null) {
+                    stockQuantities.put(productId, stockQuantity);
+                }
+            }
+            current = current.withStock(stockQuantities);
+        }
+        return current;
+    }
+
+    private void dropCatalog() {
+        synchronized (catalogLock) {
+            catalogTracked = false;
+            catalog = null;
+            pendingProducts.clear();
+            pendingStock.clear();
+        }
+    }
+
+    /**
+     * Re-read a product into the in-memory indexes once its change is committed
+     */
+    private void refreshIndexesAfterCompletion(Integer productId, long stockVersion) {
+        if (barcodeIndex == null && searchIndex == null && valuation == null && !catalogEnabled) {
+            return;
+        }
+        TransactionManager.afterCompletion(() -> {
+            Product product;
+            try {
+                product = productDAO.findById(productId).orElse(null);
+            } catch (SQLException e) {
+                // Rebuild on next use rather than serve stale entries
+                logger.warn("Could not refresh in-memory indexes for product {}: {}", productId, e.getMessage());
+                barcodeIndexLoaded = false;
+                valuationLoaded = false;
+                dropCatalog();
+                if (searchIndex != null) {
+                    searchIndex.reset();
+                }
+                return;
+            }
+
+            int rowStock = product != null && product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+            stockLevels.applyRow(productId, rowStock, stockVersion, stockQuantity -> {
+                if (product != null) {
+                    product.setStockQuantity(stockQuantity);
+                }
+                if (barcodeIndex != null) {
+                    synchronized (barcodeIndex) {
+                        if (barcodeIndexLoaded) {
+                            if (product != null) {
+                                barcodeIndex.put(product);
+                            } else {
+                                barcodeIndex.remove(productId);
+                            }
+                        }
+                    }
+                }
+                if (valuation != null) {
+                    synchronized (valuation) {
+                        if (valuationLoaded) {
+                            if (product != null) {
+                                valuation.put(product);
+                            } else {
+                                valuation.remove(productId);
+                            }
+                        }
+                    }
+                }
+                if (catalogTracked) {
+                    // The row carries the stock level, replacing any queued before it
+                    pendingStock.remove(productId);
+                    pendingProducts.put(productId, Optional.ofNullable(product).map(ProductStockRow::of));
+                }
+            });
+            if (searchIndex != null) {
+                searchIndex.productChanged(productId, product);
+            }
+        });
+    }
+
+    /**
+     * Push a stock level written in the current unit of work to the in-memory indexes once
+     * it commits. Call right after the write, while the product's row is still locked.
+     */
+    private void stockLevelChangedAfterCommit(Integer productId, int stockQuantity) {
+        long stockVersion = StockVersions.next();
+        TransactionManager.afterCommit(() -> stockLevelChanged(productId, stockQuantity, stockVersion));
+    }
+
+    private void stockLevelChanged(Integer productId, int stockQuantity, long stockVersion) {
+        stockLevels.apply(productId, stockQuantity, stockVersion, level -> {
+            if (barcodeIndex != null) {
+                synchronized (barcodeIndex) {
+                    if (barcodeIndexLoaded) {
+                        barcodeIndex.setStock(productId, level);
+                    }
+                }
+            }
+            if (valuation != null) {
+                synchronized (valuation) {
+                    if (valuationLoaded) {
+                        valuation.setStock(productId, level);
+                    }
+                }
+            }
+            if (catalogTracked) {
+                pendingStock.put(productId, level);
+            }
+        });
+    }
+
+    private void productCodeAdded(String productCode) {
+        if (productCodeFilter != null) {
+            productCodeFilter.add(productCode);
+        }
+    }
+
     /**
      * Validate product data
      */
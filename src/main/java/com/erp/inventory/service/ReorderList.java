@@ -0,0 +1,107 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.model.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Suggested purchase orders for low stock products, grouped by supplier.
+ * Computed by ReportService; suppliers come in order of their most urgent product.
+ */
+public final class ReorderList {
+    private final List<SupplierOrder> orders;
+    private final long totalCostCents;
+    private final int productCount;
+
+    ReorderList(List<SupplierOrder> orders) {
+        long total = 0;
+        int count = 0;
+        for (SupplierOrder order : orders) {
+            total = Money.addCents(total, order.subtotalCents);
+            count += order.lines.size();
+        }
+        this.orders = List.copyOf(orders);
+        this.totalCostCents = total;
+        this.productCount = count;
+    }
+
+    public List<SupplierOrder> getOrders() {
+        return orders;
+    }
+
+    public BigDecimal getTotalCost() {
+        return Money.toBigDecimal(totalCostCents);
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    /**
+     * Products to order from one supplier
+     */
+    public static final class SupplierOrder {
+        private final String supplierName;
+        private final List<Line> lines;
+        private final long subtotalCents;
+
+        SupplierOrder(String supplierName, List<Line> lines) {
+            long subtotal = 0;
+            for (Line line : lines) {
+                subtotal = Money.addCents(subtotal, line.costCents);
+            }
+            this.supplierName = supplierName;
+            this.lines = List.copyOf(lines);
+            this.subtotalCents = subtotal;
+        }
+
+        /**
+         * Get the supplier's company name
+         * @return company name, or null if the supplier is unknown
+         */
+        public String getSupplierName() {
+            return supplierName;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public BigDecimal getSubtotal() {
+            return Money.toBigDecimal(subtotalCents);
+        }
+    }
+
+    /**
+     * One product to order
+     */
+    public static final class Line {
+        private final ProductStockRow product;
+        private final int suggestedQuantity;
+        private final long costCents;
+
+        Line(ProductStockRow product, int suggestedQuantity) {
+            this.product = product;
+            this.suggestedQuantity = suggestedQuantity;
+            this.costCents = Money.multiplyCents(product.getUnitPriceCents(), suggestedQuantity);
+        }
+
+        public ProductStockRow getProduct() {
+            return product;
+        }
+
+        public int getSuggestedQuantity() {
+            return suggestedQuantity;
+        }
+
+        public BigDecimal getEstimatedCost() {
+            return Money.toBigDecimal(costCents);
+        }
+    }
+}
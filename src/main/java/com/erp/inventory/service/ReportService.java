@@ -0,0 +1,255 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.model.Money;
+import com.erp.inventory.util.DatabaseUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the stock reports from a catalog snapshot.
+ * The snapshot is split into chunks of report.parallel.chunk.size rows, each chunk is
+ * summed into its own accumulator on the common fork-join pool, and the accumulators are
+ * merged. Only the rows a report lists are turned into objects; printing is left to the caller.
+ */
+public class ReportService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 16_384;
+
+    private final int chunkSize;
+
+    /**
+     * Constructor reading the chunk size from report.parallel.chunk.size
+     */
+    public ReportService() {
+        this(DatabaseUtil.getIntProperty("report.parallel.chunk.size", DEFAULT_CHUNK_SIZE));
+    }
+
+    /**
+     * Constructor with an explicit chunk size (useful for testing)
+     * @param chunkSize Rows per parallel task; catalogs up to this size are summed on the calling thread
+     */
+    public ReportService(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Get catalog-wide stock totals
+     */
+    public StockSummary getStockSummary(CatalogSnapshot catalog) {
+        logger.debug("Summarizing stock of {} products", catalog.size());
+        SummaryTotals totals = aggregate(catalog, SummaryTotals::new);
+        return new StockSummary(catalog.size(), totals.units, totals.lowStock, totals.outOfStock, totals.valueCents);
+    }
+
+    /**
+     * Get the item count, units and value of each category
+     * @return One valuation per category with products, ordered by category
+     */
+    public List<CategoryValuation> getCategoryValuations(CatalogSnapshot catalog) {
+        logger.debug("Valuing {} products by category", catalog.size());
+        CategoryTotals totals = aggregate(catalog, () -> new CategoryTotals(catalog.categoryCount()));
+
+        List<CategoryValuation> valuations = new ArrayList<>();
+        for (int category = 0; category < totals.items.length; category++) {
+            if (totals.items[category] > 0) {
+                valuations.add(new CategoryValuation(catalog.category(category), totals.items[category],
+                                                     totals.units[category],
+                                                     Money.toBigDecimal(totals.valueCents[category])));
+            }
+        }
+        valuations.sort(Comparator.comparing(CategoryValuation::getCategory));
+        return valuations;
+    }
+
+    /**
+     * Get products at or below their reorder level
+     * @return Rows ordered by shortage, largest first, then by name
+     */
+    public List<ProductStockRow> getLowStockRows(CatalogSnapshot catalog) {
+        int[] rows = lowStockRowIndexes(catalog);
+        List<ProductStockRow> lowStock = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            lowStock.add(catalog.row(row));
+        }
+        return lowStock;
+    }
+
+    /**
+     * Get suggested orders for low stock products, bringing each to 150% of its reorder level
+     */
+    public ReorderList getReorderList(CatalogSnapshot catalog) {
+        Map<String, List<ReorderList.Line>> linesBySupplier = new LinkedHashMap<>();
+        for (int row : lowStockRowIndexes(catalog)) {
+            int stock = catalog.stockAt(row);
+            int reorderLevel = catalog.reorderLevelAt(row);
+            int suggestedQuantity = Math.max(reorderLevel - stock, (int) (reorderLevel * 1.5) - stock);
+
+            ProductStockRow product = catalog.row(row);
+            linesBySupplier.computeIfAbsent(product.getSupplierName(), key -> new ArrayList<>())
+                           .add(new ReorderList.Line(product, suggestedQuantity));
+        }
+
+        List<ReorderList.SupplierOrder> orders = new ArrayList<>(linesBySupplier.size());
+        for (Map.Entry<String, List<ReorderList.Line>> entry : linesBySupplier.entrySet()) {
+            orders.add(new ReorderList.SupplierOrder(entry.getKey(), entry.getValue()));
+        }
+        return new ReorderList(orders);
+    }
+
+    private int[] lowStockRowIndexes(CatalogSnapshot catalog) {
+        logger.debug("Scanning {} products for low stock", catalog.size());
+        LowStockRows matches = aggregate(catalog, LowStockRows::new);
+
+        Integer[] ordered = new Integer[matches.count];
+        for (int i = 0; i < matches.count; i++) {
+            ordered[i] = matches.rows[i];
+        }
+        Arrays.sort(ordered, Comparator.comparingInt((Integer row) -> catalog.stockAt(row) - catalog.reorderLevelAt(row))
+                                       .thenComparing(catalog::nameAt));
+        return Arrays.stream(ordered).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Sum every chunk of the catalog into its own accumulator and merge them in row order
+     */
+    private <A extends Accumulator<A>> A aggregate(CatalogSnapshot catalog, Supplier<A> newAccumulator) {
+        int size = catalog.size();
+        int chunks = (int) (((long) size + chunkSize - 1) / chunkSize);
+        if (chunks <= 1) {
+            A accumulator = newAccumulator.get();
+            accumulator.add(catalog, 0, size);
+            return accumulator;
+        }
+        return IntStream.range(0, chunks)
+                        .parallel()
+                        .mapToObj(chunk -> {
+                            A accumulator = newAccumulator.get();
+                            int from = chunk * chunkSize;
+                            accumulator.add(catalog, from, Math.min(size, from + chunkSize));
+                            return accumulator;
+                        })
+                        .reduce(Accumulator::merge)
+                        .orElseGet(newAccumulator);
+    }
+
+    /**
+     * Per-chunk partial result. Each instance is used by one thread, then merged.
+     */
+    private interface Accumulator<A> {
+        void add(CatalogSnapshot catalog, int from, int to);
+
+        /**
+         * Combine with the accumulator of the following rows
+         * @return the combined accumulator, possibly this one
+         */
+        A merge(A other);
+    }
+
+    private static final class SummaryTotals implements Accumulator<SummaryTotals> {
+        private long units;
+        private long lowStock;
+        private long outOfStock;
+        private long valueCents;
+
+        @Override
+        public void add(CatalogSnapshot catalog, int from, int to) {
+            for (int row = from; row < to; row++) {
+                int stock = catalog.stockAt(row);
+                units += stock;
+                if (stock <= catalog.reorderLevelAt(row)) {
+                    lowStock++;
+                }
+                if (stock == 0) {
+                    outOfStock++;
+                }
+                valueCents = Money.addCents(valueCents, Money.multiplyCents(catalog.priceCentsAt(row), stock));
+            }
+        }
+
+        @Override
+        public SummaryTotals merge(SummaryTotals other) {
+            units += other.units;
+            lowStock += other.lowStock;
+            outOfStock += other.outOfStock;
+            valueCents = Money.addCents(valueCents, other.valueCents);
+            return this;
+        }
+    }
+
+    private static final class CategoryTotals implements Accumulator<CategoryTotals> {
+        private final long[] items;
+        private final long[] units;
+        private final long[] valueCents;
+
+        private CategoryTotals(int categories) {
+            items = new long[categories];
+            units = new long[categories];
+            valueCents = new long[categories];
+        }
+
+        @Override
+        public void add(CatalogSnapshot catalog, int from, int to) {
+            for (int row = from; row < to; row++) {
+                int category = catalog.categoryRefAt(row);
+                int stock = catalog.stockAt(row);
+                items[category]++;
+                units[category] += stock;
+                valueCents[category] = Money.addCents(valueCents[category],
+                                                      Money.multiplyCents(catalog.priceCentsAt(row), stock));
+            }
+        }
+
+        @Override
+        public CategoryTotals merge(CategoryTotals other) {
+            for (int category = 0; category < items.length; category++) {
+                items[category] += other.items[category];
+                units[category] += other.units[category];
+                valueCents[category] = Money.addCents(valueCents[category], other.valueCents[category]);
+            }
+            return this;
+        }
+    }
+
+    private static final class LowStockRows implements Accumulator<LowStockRows> {
+        private int[] rows = new int[16];
+        private int count;
+
+        @Override
+        public void add(CatalogSnapshot catalog, int from, int to) {
+            for (int row = from; row < to; row++) {
+                if (catalog.stockAt(row) <= catalog.reorderLevelAt(row)) {
+                    if (count == rows.length) {
+                        rows = Arrays.copyOf(rows, count * 2);
+                    }
+                    rows[count++] = row;
+                }
+            }
+        }
+
+        @Override
+        public LowStockRows merge(LowStockRows other) {
+            if (count + other.count > rows.length) {
+                rows = Arrays.copyOf(rows, count + other.count);
+            }
+            System.arraycopy(other.rows, 0, rows, count, other.count);
+            count += other.count;
+            return this;
+        }
+    }
+}
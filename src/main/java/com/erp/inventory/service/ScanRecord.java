@@ -0,0 +1,43 @@
+package com.erp.inventory.service;
+
+/**
+ * Product fields a till needs after a barcode scan.
+ * Mutable and meant to be reused: ProductService.lookupBarcode fills it in
+ * without allocating, so one instance per till thread serves every scan.
+ */
+public class ScanRecord {
+    int productId;
+    String productName;
+    long unitPriceCents;
+    int stockQuantity;
+
+    public int getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    /**
+     * Get the unit price in cents
+     * @return unit price in the smallest currency unit
+     */
+    public long getUnitPriceCents() {
+        return unitPriceCents;
+    }
+
+    public int getStockQuantity() {
+        return stockQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanRecord{" +
+                "productId=" + productId +
+                ", productName='" + productName + '\'' +
+                ", unitPriceCents=" + unitPriceCents +
+                ", stockQuantity=" + stockQuantity +
+                '}';
+    }
+}
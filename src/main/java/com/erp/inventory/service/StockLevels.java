@@ -0,0 +1,57 @@
+package com.erp.inventory.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Latest stock level applied to the in-memory indexes for each product, with the
+ * version it was written under (see StockVersions).
+ * Levels reach the indexes from several threads and not always in commit order.
+ * Changes of one product are applied one at a time, and a level older than the one
+ * already applied is dropped, so a late level never overwrites a newer one.
+ */
+final class StockLevels {
+    private final Map<Integer, Level> levels = new ConcurrentHashMap<>();
+
+    /**
+     * Apply a stock level unless a newer one was applied already
+     * @param action Pushes the level to the indexes; other changes of the product wait for it
+     */
+    void apply(int productId, int stockQuantity, long version, IntConsumer action) {
+        levels.compute(productId, (id, current) -> {
+            if (current != null && current.version >= version) {
+                return current;
+            }
+            action.accept(stockQuantity);
+            return new Level(stockQuantity, version);
+        });
+    }
+
+    /**
+     * Apply a product row read after a change committed under the given version.
+     * The row may be newer than its version, so its level is kept unless a newer one was applied.
+     * @param action Pushes the row to the indexes with the level to show: the row's own,
+     *               or the newer one already applied; other changes of the product wait for it
+     */
+    void applyRow(int productId, int stockQuantity, long version, IntConsumer action) {
+        levels.compute(productId, (id, current) -> {
+            if (current != null && current.version > version) {
+                action.accept(current.stockQuantity);
+                return current;
+            }
+            action.accept(stockQuantity);
+            return new Level(stockQuantity, version);
+        });
+    }
+
+    private static final class Level {
+        private final int stockQuantity;
+        private final long version;
+
+        private Level(int stockQuantity, long version) {
+            this.stockQuantity = stockQuantity;
+            this.version = version;
+        }
+    }
+}
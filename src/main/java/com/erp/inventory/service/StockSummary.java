@@ -0,0 +1,63 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.model.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Catalog-wide stock totals computed by ReportService
+ */
+public final class StockSummary {
+    private final long productCount;
+    private final long totalUnits;
+    private final long lowStockCount;
+    private final long outOfStockCount;
+    private final long totalValueCents;
+
+    public StockSummary(long productCount, long totalUnits, long lowStockCount, long outOfStockCount,
+                        long totalValueCents) {
+        this.productCount = productCount;
+        this.totalUnits = totalUnits;
+        this.lowStockCount = lowStockCount;
+        this.outOfStockCount = outOfStockCount;
+        this.totalValueCents = totalValueCents;
+    }
+
+    public long getProductCount() {
+        return productCount;
+    }
+
+    public long getTotalUnits() {
+        return totalUnits;
+    }
+
+    /**
+     * Get the number of products at or below their reorder level, out of stock ones included
+     */
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public long getOutOfStockCount() {
+        return outOfStockCount;
+    }
+
+    public BigDecimal getTotalValue() {
+        return Money.toBigDecimal(totalValueCents);
+    }
+
+    public long getTotalValueCents() {
+        return totalValueCents;
+    }
+
+    @Override
+    public String toString() {
+        return "StockSummary{" +
+                "productCount=" + productCount +
+                ", totalUnits=" + totalUnits +
+                ", lowStockCount=" + lowStockCount +
+                ", outOfStockCount=" + outOfStockCount +
+                ", totalValue=" + getTotalValue() +
+                '}';
+    }
+}
@@ -0,0 +1,180 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.TransactionDAO;
+import com.erp.inventory.dao.TransactionReceipt;
+import com.erp.inventory.dao.impl.TransactionDAOImpl;
+import com.erp.inventory.model.Transaction;
+import com.erp.inventory.model.TransactionType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class for inventory transaction business logic
+ */
+public class TransactionService {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
+
+    private final TransactionDAO transactionDAO;
+    private final ProductService productService;
+
+    // Reports recorded stock levels to the product service off the transaction writer's thread,
+    // one at a time in the order the writer completed them
+    private final ExecutorService stockNotifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-change-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructor using the DAO implementation.
+     * Recorded stock changes are reported to the given product service so its cache stays current.
+     */
+    public TransactionService(ProductService productService) {
+        this(new TransactionDAOImpl(), productService);
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing)
+     */
+    public TransactionService(TransactionDAO transactionDAO, ProductService productService) {
+        this.transactionDAO = transactionDAO;
+        this.productService = productService;
+    }
+
+    /**
+     * Record a transaction without waiting for it to be written.
+     * Stock checks happen when the transaction is written; a rejected transaction
+     * completes the future exceptionally.
+     */
+    public CompletableFuture<TransactionReceipt> recordTransactionAsync(TransactionType type, Integer productId,
+                                                                       Integer quantity, BigDecimal unitPrice,
+                                                                       String referenceNumber, String notes) throws ValidationException {
+        validateTransactionData(type, productId, quantity, unitPrice, referenceNumber);
+
+        Transaction transaction = new Transaction(type, productId, quantity, unitPrice, null,
+                                                  emptyToNull(referenceNumber), emptyToNull(notes));
+        return transactionDAO.record(transaction).whenCompleteAsync((receipt, error) -> {
+            if (receipt != null) {
+                productService.stockChanged(receipt.getProductId(), receipt.getStockQuantity(),
+                                            receipt.getStockVersion());
+            }
+        }, stockNotifier);
+    }
+
+    /**
+     * Record a transaction and wait until it is committed
+     */
+    public TransactionReceipt recordTransaction(TransactionType type, Integer productId, Integer quantity,
+                                                BigDecimal unitPrice, String referenceNumber, String notes)
+            throws SQLException, ValidationException {
+        logger.info("Recording {} of {} for product {}", type, quantity, productId);
+
+        if (!productService.productExists(productId)) {
+            throw new ValidationException("Product not found with ID: " + productId);
+        }
+
+        try {
+            TransactionReceipt receipt = recordTransactionAsync(type, productId, quantity, unitPrice,
+                                                                referenceNumber, notes).get();
+            logger.info("Transaction recorded successfully: {}", receipt.getTransactionId());
+            return receipt;
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                SQLException cause = (SQLException) e.getCause();
+                // 45000 is the insufficient stock state, raised by the writer or the stock trigger
+                if ("45000".equals(cause.getSQLState())) {
+                    throw new ValidationException(cause.getMessage(), cause);
+                }
+                throw cause;
+            }
+            throw new SQLException("Recording transaction failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while recording transaction", e);
+        }
+    }
+
+    /**
+     * Find the most recent transactions
+     */
+    public List<Transaction> findRecentTransactions(int limit) throws SQLException {
+        logger.debug("Finding {} recent transactions", limit);
+        return transactionDAO.findRecent(limit);
+    }
+
+    /**
+     * Find the most recent transactions for a product
+     */
+    public List<Transaction> findTransactionsByProduct(Integer productId, int limit) throws SQLException {
+        logger.debug("Finding transactions for product: {}", productId);
+        return transactionDAO.findByProduct(productId, limit);
+    }
+
+    /**
+     * Get total transaction count
+     */
+    public long getTransactionCount() throws SQLException {
+        return transactionDAO.count();
+    }
+
+    /**
+     * Write out queued transactions and stop the background writer
+     */
+    public void shutdown() {
+        transactionDAO.shutdown();
+        stockNotifier.shutdown();
+    }
+
+    /**
+     * Validate transaction data
+     */
+    private void validateTransactionData(TransactionType type, Integer productId, Integer quantity,
+                                         BigDecimal unitPrice, String referenceNumber) throws ValidationException {
+        if (type == null) {
+            throw new ValidationException("Transaction type is required");
+        }
+
+        if (productId == null) {
+            throw new ValidationException("Product is required");
+        }
+
+        if (quantity == null || quantity <= 0) {
+            throw new ValidationException("Quantity must be greater than zero");
+        }
+
+        if (unitPrice == null || unitPrice.compareTo(BigDecimal.ZERO) < 0) {
+            throw new ValidationException("Unit price cannot be negative");
+        }
+
+        if (referenceNumber != null && referenceNumber.trim().length() > 50) {
+            throw new ValidationException("Reference number cannot exceed 50 characters");
+        }
+    }
+
+    private String emptyToNull(String value) {
+        return value != null && !value.trim().isEmpty() ? value.trim() : null;
+    }
+
+    /**
+     * Custom exception for validation errors
+     */
+    public static class ValidationException extends Exception {
+        public ValidationException(String message) {
+            super(message);
+        }
+
+        public ValidationException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.erp.inventory.ui;
 
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.Page;
+import com.erp.inventory.dao.PageCursor;
+import com.erp.inventory.dao.ProductStockRow;
 import com.erp.inventory.dao.SupplierDAO;
-import com.erp.inventory.dao.impl.SupplierDAOImpl;
+import com.erp.inventory.dao.TransactionReceipt;
 import com.erp.inventory.model.Supplier;
 import com.erp.inventory.model.Product;
+import com.erp.inventory.model.Transaction;
 import com.erp.inventory.model.TransactionType;
+import com.erp.inventory.service.CatalogSnapshot;
 import com.erp.inventory.service.ProductService;
+import com.erp.inventory.service.ReorderList;
+import com.erp.inventory.service.ReportService;
+import com.erp.inventory.service.StockSummary;
+import com.erp.inventory.service.TransactionService;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.PrefixIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
@@ -21,18 +34,24 @@ import java.util.Scanner;
  */
 public class ConsoleUI {
     private static final Logger logger = LoggerFactory.getLogger(ConsoleUI.class);
+    private static final DateTimeFormatter TRANSACTION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int COMPLETION_LIMIT = 10;
     private Scanner scanner;
     private boolean running;
     
     // DAO instances and Services
     private final SupplierDAO supplierDAO;
     private final ProductService productService;
+    private final TransactionService transactionService;
+    private final ReportService reportService;
 
     public ConsoleUI() {
         this.scanner = new Scanner(System.in);
         this.running = true;
-        this.supplierDAO = new SupplierDAOImpl();
-        this.productService = new ProductService();
+        this.supplierDAO = ProductService.createSupplierDAO();
+        this.productService = new ProductService(supplierDAO);
+        this.transactionService = new TransactionService(productService);
+        this.reportService = new ReportService();
     }
 
     /**
@@ -213,30 +232,41 @@ public class ConsoleUI {
         try {
             System.out.println("\n--- All Suppliers ---");
             
-            List<Supplier> suppliers = supplierDAO.findAll();
-            
-            if (suppliers.isEmpty()) {
-                System.out.println("No suppliers found.");
-                pauseForUser();
-                return;
-            }
-            
-            System.out.println("\n" + "=".repeat(120));
-            System.out.printf("%-5s %-25s %-20s %-15s %-30s %-8s%n", 
-                            "ID", "Company Name", "Contact Person", "Phone", "Email", "Rating");
-            System.out.println("=".repeat(120));
+            int pageSize = getPageSize();
+            int shown = 0;
+            PageCursor cursor = null;
             
-            for (Supplier supplier : suppliers) {
-                System.out.printf("%-5d %-25s %-20s %-15s %-30s %-8.1f%n",
-                                supplier.getSupplierId(),
-                                truncateString(supplier.getCompanyName(), 25),
-                                truncateString(supplier.getContactPerson(), 20),
-                                truncateString(supplier.getPhone(), 15),
-                                truncateString(supplier.getEmail(), 30),
-                                supplier.getRating() != null ? supplier.getRating().doubleValue() : 0.0);
+            while (true) {
+                Page<Supplier> page = supplierDAO.findAllPage(cursor, pageSize);
+                
+                if (page.isEmpty() && shown == 0) {
+                    System.out.println("No suppliers found.");
+                    break;
+                }
+                
+                System.out.println("\n" + "=".repeat(120));
+                System.out.printf("%-5s %-25s %-20s %-15s %-30s %-8s%n", 
+                                "ID", "Company Name", "Contact Person", "Phone", "Email", "Rating");
+                System.out.println("=".repeat(120));
+                
+                for (Supplier supplier : page.getItems()) {
+                    System.out.printf("%-5d %-25s %-20s %-15s %-30s %-8.1f%n",
+                                    supplier.getSupplierId(),
+                                    truncateString(supplier.getCompanyName(), 25),
+                                    truncateString(supplier.getContactPerson(), 20),
+                                    truncateString(supplier.getPhone(), 15),
+                                    truncateString(supplier.getEmail(), 30),
+                                    supplier.getRating() != null ? supplier.getRating().doubleValue() : 0.0);
+                }
+                System.out.println("=".repeat(120));
+                shown += page.size();
+                
+                if (!page.hasNext() || !promptNextPage()) {
+                    System.out.println("Suppliers shown: " + shown);
+                    break;
+                }
+                cursor = page.getNextCursor();
             }
-            System.out.println("=".repeat(120));
-            System.out.println("Total suppliers: " + suppliers.size());
             
         } catch (SQLException e) {
             logger.error("Error viewing suppliers", e);
@@ -250,7 +280,8 @@ public class ConsoleUI {
         System.out.println("\n--- Search Suppliers ---");
         System.out.println("1. Search by name");
         System.out.println("2. Search by rating range");
-        System.out.print("Choose search type (1-2): ");
+        System.out.println("3. Type-ahead by name");
+        System.out.print("Choose search type (1-3): ");
         
         int searchType = getMenuChoice();
         
@@ -262,6 +293,17 @@ public class ConsoleUI {
                 case 2:
                     searchSuppliersByRating();
                     break;
+                case 3:
+                    PrefixIndex.Completion choice = chooseCompletion("company name", productService::completeSupplierName);
+                    if (choice != null) {
+                        Optional<Supplier> supplier = supplierDAO.findById(choice.getId());
+                        if (supplier.isPresent()) {
+                            displaySupplierDetails(supplier.get());
+                        } else {
+                            System.out.println("Supplier no longer exists.");
+                        }
+                    }
+                    break;
                 default:
                     System.out.println("Invalid search type!");
             }
@@ -706,6 +748,66 @@ public class ConsoleUI {
         running = false;
     }
 
+    /**
+     * Rows per page for paged listings
+     */
+    private int getPageSize() {
+        return Math.max(1, DatabaseUtil.getIntProperty("ui.page.size", 20));
+    }
+    
+    /**
+     * Ask whether to show the next page of a listing
+     * @return true if the user wants the next page
+     */
+    private boolean promptNextPage() {
+        System.out.print("Press Enter for the next page or 'q' to stop: ");
+        String input = scanner.nextLine().trim().toLowerCase();
+        return !"q".equals(input);
+    }
+    
+    /**
+     * Type-ahead selection: each line entered is a prefix and lists the first matches,
+     * until a match is chosen by number or an empty line cancels
+     * @return chosen completion, or null if cancelled
+     */
+    private PrefixIndex.Completion chooseCompletion(String label, CompletionSource source) throws SQLException {
+        List<PrefixIndex.Completion> completions = List.of();
+        while (true) {
+            System.out.print(completions.isEmpty()
+                ? "Type the start of a " + label + " (Enter to cancel): "
+                : "Choose a number, or type another prefix (Enter to cancel): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return null;
+            }
+
+            if (!completions.isEmpty() && input.matches("\\d+")) {
+                int index = Integer.parseInt(input);
+                if (index >= 1 && index <= completions.size()) {
+                    return completions.get(index - 1);
+                }
+                System.out.println("Invalid selection.");
+                continue;
+            }
+
+            completions = source.complete(input, COMPLETION_LIMIT);
+            if (completions.isEmpty()) {
+                System.out.println("No " + label + " starts with: " + input);
+            }
+            for (int i = 0; i < completions.size(); i++) {
+                System.out.printf("%d. %s%n", i + 1, completions.get(i).getName());
+            }
+        }
+    }
+
+    /**
+     * Source of name completions for chooseCompletion
+     */
+    @FunctionalInterface
+    private interface CompletionSource {
+        List<PrefixIndex.Completion> complete(String prefix, int limit) throws SQLException;
+    }
+    
     private void pauseForUser() {
         System.out.println("\nPress Enter to continue...");
         scanner.nextLine();
@@ -879,12 +981,27 @@ public class ConsoleUI {
         System.out.println("\n--- All Products ---");
         
         try {
-            List<Product> products = productService.findAllProducts();
-            if (products.isEmpty()) {
-                System.out.println("No products found.");
-            } else {
-                System.out.println("\nFound " + products.size() + " product(s):\n");
-                displayProductsTable(products);
+            int pageSize = getPageSize();
+            int shown = 0;
+            PageCursor cursor = null;
+            
+            while (true) {
+                Page<Product> page = productService.findProductsPage(cursor, pageSize);
+                
+                if (page.isEmpty() && shown == 0) {
+                    System.out.println("No products found.");
+                    break;
+                }
+                
+                System.out.println();
+                displayProductsTable(page.getItems());
+                shown += page.size();
+                
+                if (!page.hasNext() || !promptNextPage()) {
+                    System.out.println("\nProducts shown: " + shown);
+                    break;
+                }
+                cursor = page.getNextCursor();
             }
         } catch (SQLException e) {
             logger.error("Database error viewing products", e);
@@ -903,7 +1020,8 @@ public class ConsoleUI {
         System.out.println("2. Search by Category");
         System.out.println("3. Search by Product Code");
         System.out.println("4. Search by Supplier");
-        System.out.print("\nChoose search type (1-4): ");
+        System.out.println("5. Type-ahead by Name");
+        System.out.print("\nChoose search type (1-5): ");
         
         try {
             int searchType = Integer.parseInt(scanner.nextLine().trim());
@@ -956,6 +1074,13 @@ public class ConsoleUI {
                     products = productService.findProductsBySupplier(supplierId);
                     break;
                     
+                case 5:
+                    PrefixIndex.Completion choice = chooseCompletion("product name", productService::completeProductName);
+                    if (choice != null) {
+                        products = productService.findProductById(choice.getId()).map(List::of).orElse(List.of());
+                    }
+                    break;
+                    
                 default:
                     System.out.println("Invalid search type.");
                     pauseForUser();
@@ -1213,16 +1338,94 @@ public class ConsoleUI {
     
     private void recordTransaction(TransactionType type) {
         System.out.println("\n--- Record " + type.getDisplayName() + " ---");
-        System.out.println("Note: Transaction DAO not yet implemented.");
-        System.out.println("This will record a " + type.getDisplayName().toLowerCase() + " transaction.");
-        System.out.println("Description: " + type.getDescription());
+        System.out.println(type.getDescription());
+        
+        try {
+            System.out.print("\nEnter Product ID: ");
+            Integer productId = Integer.parseInt(scanner.nextLine().trim());
+            
+            Optional<Product> productOpt = productService.findProductById(productId);
+            if (!productOpt.isPresent()) {
+                System.out.println("Product not found with ID: " + productId);
+                pauseForUser();
+                return;
+            }
+            
+            Product product = productOpt.get();
+            System.out.println("Product: " + product.getProductName());
+            System.out.println("Current stock: " + product.getStockQuantity());
+            
+            System.out.print(type.isAdjustment() ? "Counted stock quantity: " : "Quantity: ");
+            Integer quantity = Integer.parseInt(scanner.nextLine().trim());
+            
+            System.out.print("Unit price [" + product.getUnitPrice() + "]: ");
+            String priceInput = scanner.nextLine().trim();
+            BigDecimal unitPrice = priceInput.isEmpty() ? product.getUnitPrice() : new BigDecimal(priceInput);
+            
+            System.out.print("Reference number (optional): ");
+            String referenceNumber = scanner.nextLine().trim();
+            
+            System.out.print("Notes (optional): ");
+            String notes = scanner.nextLine().trim();
+            
+            TransactionReceipt receipt = transactionService.recordTransaction(
+                type, productId, quantity, unitPrice, referenceNumber, notes);
+            
+            System.out.println("\n✓ " + type.getDisplayName() + " recorded successfully!");
+            System.out.println("Transaction ID: " + receipt.getTransactionId());
+            System.out.println("New stock: " + receipt.getStockQuantity());
+            
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format. Please enter a valid number.");
+        } catch (TransactionService.ValidationException e) {
+            System.out.println("\n❌ Validation Error: " + e.getMessage());
+        } catch (SQLException e) {
+            logger.error("Database error recording transaction", e);
+            System.out.println("\n❌ Database error: " + e.getMessage());
+        }
+        
         pauseForUser();
     }
 
     private void viewTransactionHistory() {
         System.out.println("\n--- Transaction History ---");
-        System.out.println("Note: Transaction DAO not yet implemented.");
-        System.out.println("This will show all transactions with filtering options.");
+        
+        try {
+            System.out.print("Enter Product ID (or press Enter for all products): ");
+            String productInput = scanner.nextLine().trim();
+            int limit = getPageSize();
+            
+            List<Transaction> transactions = productInput.isEmpty()
+                ? transactionService.findRecentTransactions(limit)
+                : transactionService.findTransactionsByProduct(Integer.parseInt(productInput), limit);
+            
+            if (transactions.isEmpty()) {
+                System.out.println("No transactions found.");
+            } else {
+                System.out.println("\nLast " + transactions.size() + " transaction(s):\n");
+                System.out.printf("%-8s %-17s %-12s %-25s %-8s %-10s %-12s %-15s%n",
+                    "ID", "Date", "Type", "Product", "Qty", "Price", "Total", "Reference");
+                System.out.println("=".repeat(112));
+                for (Transaction transaction : transactions) {
+                    System.out.printf("%-8d %-17s %-12s %-25s %-8d $%-9.2f $%-11.2f %-15s%n",
+                        transaction.getTransactionId(),
+                        transaction.getTransactionDate().format(TRANSACTION_DATE_FORMAT),
+                        transaction.getTransactionType().getDisplayName(),
+                        truncateString(transaction.getDisplayProductName(), 24),
+                        transaction.getQuantity(),
+                        transaction.getUnitPrice(),
+                        transaction.getTotalAmount(),
+                        truncateString(transaction.getFormattedReferenceNumber(), 15));
+                }
+            }
+            
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid Product ID format. Please enter a valid number.");
+        } catch (SQLException e) {
+            logger.error("Database error viewing transaction history", e);
+            System.out.println("\n❌ Database error: " + e.getMessage());
+        }
+        
         pauseForUser();
     }
 
@@ -1232,24 +1435,20 @@ public class ConsoleUI {
         System.out.println("\n--- Stock Summary Report ---");
         
         try {
-            List<Product> products = productService.findAllProducts();
-            if (products.isEmpty()) {
+            // Totals are computed up front from the same snapshot the rows are printed from
+            CatalogSnapshot catalog = productService.getCatalogSnapshot();
+            StockSummary summary = reportService.getStockSummary(catalog);
+            if (summary.getProductCount() == 0) {
                 System.out.println("No products found.");
             } else {
-                System.out.println("\nStock Summary for " + products.size() + " product(s):\n");
-                
-                BigDecimal totalStockValue = BigDecimal.ZERO;
-                displayProductsTable(products);
+                System.out.println("\nStock Summary for " + summary.getProductCount() + " product(s):\n");
                 
-                // Calculate total stock value
-                for (Product product : products) {
-                    BigDecimal productValue = product.getUnitPrice().multiply(new BigDecimal(product.getStockQuantity()));
-                    totalStockValue = totalStockValue.add(productValue);
-                }
+                printProductsTableHeader();
+                catalog.forEachByName(this::printStockRow);
                 
                 System.out.println("\n" + "=".repeat(100));
-                System.out.printf("Total Stock Value: $%.2f%n", totalStockValue);
-                System.out.println("Total Products: " + products.size());
+                System.out.printf("Total Stock Value: $%.2f%n", summary.getTotalValue());
+                System.out.println("Total Products: " + summary.getProductCount());
             }
         } catch (SQLException e) {
             logger.error("Database error generating stock summary report", e);
@@ -1266,7 +1465,7 @@ public class ConsoleUI {
         System.out.println("\n--- Low Stock Alert Report ---");
         
         try {
-            List<Product> lowStockProducts = productService.getLowStockProducts();
+            List<ProductStockRow> lowStockProducts = reportService.getLowStockRows(productService.getCatalogSnapshot());
             if (lowStockProducts.isEmpty()) {
                 System.out.println("\n✓ No products are below reorder level.");
             } else {
@@ -1277,7 +1476,7 @@ public class ConsoleUI {
                     "ID", "Product Name", "Code", "Stock", "Reorder", "Shortage", "Supplier");
                 System.out.println("=".repeat(100));
                 
-                for (Product product : lowStockProducts) {
+                for (ProductStockRow product : lowStockProducts) {
                     int shortage = Math.max(0, product.getReorderLevel() - product.getStockQuantity());
                     String status = product.getStockQuantity() == 0 ? "OUT OF STOCK" : "LOW STOCK";
                     
@@ -1354,49 +1553,37 @@ public class ConsoleUI {
         System.out.println("\n--- Inventory Valuation Report ---");
         
         try {
-            List<Product> products = productService.findAllProducts();
-            if (products.isEmpty()) {
+            // Running totals when enabled, otherwise summed per category in parallel or by the database
+            List<CategoryValuation> valuations = productService.getCategoryValuations();
+            
+            if (valuations.isEmpty()) {
                 System.out.println("No products found.");
             } else {
-                System.out.println("\nInventory Valuation for " + products.size() + " product(s):\n");
-                
-                // Group by category and calculate values
-                java.util.Map<String, java.util.List<Product>> productsByCategory = new java.util.HashMap<>();
-                for (Product product : products) {
-                    productsByCategory.computeIfAbsent(product.getCategory(), k -> new java.util.ArrayList<>()).add(product);
+                long totalProducts = 0;
+                for (CategoryValuation valuation : valuations) {
+                    totalProducts += valuation.getItemCount();
                 }
+                System.out.println("\nInventory Valuation for " + totalProducts + " product(s):\n");
                 
                 BigDecimal totalInventoryValue = BigDecimal.ZERO;
                 
                 System.out.printf("%-20s %-10s %-15s %-15s%n", "Category", "Items", "Total Units", "Total Value");
                 System.out.println("=".repeat(65));
                 
-                for (java.util.Map.Entry<String, java.util.List<Product>> entry : productsByCategory.entrySet()) {
-                    String category = entry.getKey();
-                    java.util.List<Product> categoryProducts = entry.getValue();
-                    
-                    int totalUnits = 0;
-                    BigDecimal categoryValue = BigDecimal.ZERO;
-                    
-                    for (Product product : categoryProducts) {
-                        totalUnits += product.getStockQuantity();
-                        BigDecimal productValue = product.getUnitPrice().multiply(new BigDecimal(product.getStockQuantity()));
-                        categoryValue = categoryValue.add(productValue);
-                    }
-                    
-                    totalInventoryValue = totalInventoryValue.add(categoryValue);
+                for (CategoryValuation valuation : valuations) {
+                    totalInventoryValue = totalInventoryValue.add(valuation.getTotalValue());
                     
                     System.out.printf("%-20s %-10d %-15d $%-14.2f%n",
-                        truncateString(category, 19),
-                        categoryProducts.size(),
-                        totalUnits,
-                        categoryValue);
+                        truncateString(valuation.getCategory(), 19),
+                        valuation.getItemCount(),
+                        valuation.getTotalUnits(),
+                        valuation.getTotalValue());
                 }
                 
                 System.out.println("=".repeat(65));
                 System.out.printf("Total Inventory Value: $%.2f%n", totalInventoryValue);
-                System.out.println("Total Product Types: " + products.size());
-                System.out.println("Categories: " + productsByCategory.size());
+                System.out.println("Total Product Types: " + totalProducts);
+                System.out.println("Categories: " + valuations.size());
             }
         } catch (SQLException e) {
             logger.error("Database error generating valuation report", e);
@@ -1415,23 +1602,22 @@ public class ConsoleUI {
         System.out.println("\n--- Current Stock Levels ---");
         
         try {
-            List<Product> products = productService.findAllProducts();
-            if (products.isEmpty()) {
+            CatalogSnapshot catalog = productService.getCatalogSnapshot();
+            StockSummary summary = reportService.getStockSummary(catalog);
+            if (summary.getProductCount() == 0) {
                 System.out.println("No products found.");
             } else {
-                System.out.println("\nCurrent stock levels for " + products.size() + " product(s):\n");
-                displayProductsTable(products);
+                System.out.println("\nCurrent stock levels for " + summary.getProductCount() + " product(s):\n");
                 
-                // Show summary statistics
-                int totalProducts = products.size();
-                long totalUnits = products.stream().mapToInt(Product::getStockQuantity).sum();
-                long lowStockCount = products.stream().mapToInt(p -> p.getStockQuantity() <= p.getReorderLevel() ? 1 : 0).sum();
-                long outOfStockCount = products.stream().mapToInt(p -> p.getStockQuantity() == 0 ? 1 : 0).sum();
+                printProductsTableHeader();
+                catalog.forEachByName(this::printStockRow);
+                long lowStockCount = summary.getLowStockCount();
+                long outOfStockCount = summary.getOutOfStockCount();
                 
                 System.out.println("\n" + "=".repeat(115));
                 System.out.println("Summary:");
-                System.out.println("Total Products: " + totalProducts);
-                System.out.println("Total Units in Stock: " + totalUnits);
+                System.out.println("Total Products: " + summary.getProductCount());
+                System.out.println("Total Units in Stock: " + summary.getTotalUnits());
                 System.out.println("Low Stock Items: " + lowStockCount);
                 System.out.println("Out of Stock Items: " + outOfStockCount);
                 
@@ -1457,17 +1643,17 @@ public class ConsoleUI {
         System.out.println("\n--- Low Stock Alerts ---");
         
         try {
-            List<Product> lowStockProducts = productService.getLowStockProducts();
+            List<ProductStockRow> lowStockProducts = reportService.getLowStockRows(productService.getCatalogSnapshot());
             if (lowStockProducts.isEmpty()) {
                 System.out.println("\n✓ No low stock alerts. All products are adequately stocked.");
             } else {
                 System.out.println("\n⚠️  ALERT: " + lowStockProducts.size() + " product(s) require immediate attention!\n");
                 
                 // Separate critical (out of stock) from low stock
-                java.util.List<Product> outOfStock = new java.util.ArrayList<>();
-                java.util.List<Product> lowStock = new java.util.ArrayList<>();
+                java.util.List<ProductStockRow> outOfStock = new java.util.ArrayList<>();
+                java.util.List<ProductStockRow> lowStock = new java.util.ArrayList<>();
                 
-                for (Product product : lowStockProducts) {
+                for (ProductStockRow product : lowStockProducts) {
                     if (product.getStockQuantity() == 0) {
                         outOfStock.add(product);
                     } else {
@@ -1478,7 +1664,7 @@ public class ConsoleUI {
                 if (!outOfStock.isEmpty()) {
                     System.out.println("❌ CRITICAL - OUT OF STOCK (" + outOfStock.size() + " items):");
                     System.out.println("-".repeat(60));
-                    for (Product product : outOfStock) {
+                    for (ProductStockRow product : outOfStock) {
                         System.out.printf("• %s [Code: %s] - Supplier: %s\n",
                             product.getProductName(),
                             product.getProductCode() != null ? product.getProductCode() : "N/A",
@@ -1490,7 +1676,7 @@ public class ConsoleUI {
                 if (!lowStock.isEmpty()) {
                     System.out.println("⚠️  LOW STOCK (" + lowStock.size() + " items):");
                     System.out.println("-".repeat(60));
-                    for (Product product : lowStock) {
+                    for (ProductStockRow product : lowStock) {
                         int shortage = product.getReorderLevel() - product.getStockQuantity();
                         System.out.printf("• %s [Code: %s] - Stock: %d, Reorder: %d (Need: %d) - Supplier: %s\n",
                             product.getProductName(),
@@ -1519,24 +1705,14 @@ public class ConsoleUI {
         System.out.println("\n--- Generate Reorder List ---");
         
         try {
-            List<Product> lowStockProducts = productService.getLowStockProducts();
-            if (lowStockProducts.isEmpty()) {
+            ReorderList reorderList = reportService.getReorderList(productService.getCatalogSnapshot());
+            if (reorderList.isEmpty()) {
                 System.out.println("\n✓ No products need reordering at this time.");
             } else {
-                System.out.println("\n📋 Reorder List for " + lowStockProducts.size() + " product(s):\n");
-                
-                // Group by supplier for easier ordering
-                java.util.Map<String, java.util.List<Product>> productsBySupplier = new java.util.LinkedHashMap<>();
-                for (Product product : lowStockProducts) {
-                    String supplierName = product.getSupplierName() != null ? product.getSupplierName() : "Unknown Supplier";
-                    productsBySupplier.computeIfAbsent(supplierName, k -> new java.util.ArrayList<>()).add(product);
-                }
+                System.out.println("\n📋 Reorder List for " + reorderList.getProductCount() + " product(s):\n");
                 
-                BigDecimal totalOrderValue = BigDecimal.ZERO;
-                
-                for (java.util.Map.Entry<String, java.util.List<Product>> entry : productsBySupplier.entrySet()) {
-                    String supplierName = entry.getKey();
-                    java.util.List<Product> supplierProducts = entry.getValue();
+                for (ReorderList.SupplierOrder order : reorderList.getOrders()) {
+                    String supplierName = order.getSupplierName() != null ? order.getSupplierName() : "Unknown Supplier";
                     
                     System.out.println("★ SUPPLIER: " + supplierName);
                     System.out.println("=".repeat(80));
@@ -1544,34 +1720,23 @@ public class ConsoleUI {
                         "Product Name", "Code", "Current", "Suggested", "Est. Cost");
                     System.out.println("-".repeat(80));
                     
-                    BigDecimal supplierOrderValue = BigDecimal.ZERO;
-                    
-                    for (Product product : supplierProducts) {
-                        // Calculate suggested order quantity (bring to 150% of reorder level)
-                        int suggestedQuantity = Math.max(
-                            product.getReorderLevel() - product.getStockQuantity(),
-                            (int)(product.getReorderLevel() * 1.5) - product.getStockQuantity()
-                        );
-                        
-                        BigDecimal estimatedCost = product.getUnitPrice().multiply(new BigDecimal(suggestedQuantity));
-                        supplierOrderValue = supplierOrderValue.add(estimatedCost);
-                        
+                    for (ReorderList.Line line : order.getLines()) {
+                        ProductStockRow product = line.getProduct();
                         System.out.printf("%-30s %-15s %-10d %-12d $%-14.2f%n",
                             truncateString(product.getProductName(), 29),
                             product.getProductCode() != null ? truncateString(product.getProductCode(), 14) : "N/A",
                             product.getStockQuantity(),
-                            suggestedQuantity,
-                            estimatedCost);
+                            line.getSuggestedQuantity(),
+                            line.getEstimatedCost());
                     }
                     
-                    System.out.printf("\nSubtotal for %s: $%.2f\n\n", supplierName, supplierOrderValue);
-                    totalOrderValue = totalOrderValue.add(supplierOrderValue);
+                    System.out.printf("\nSubtotal for %s: $%.2f\n\n", supplierName, order.getSubtotal());
                 }
                 
                 System.out.println("=".repeat(80));
-                System.out.printf("TOTAL ESTIMATED ORDER VALUE: $%.2f%n", totalOrderValue);
-                System.out.println("Total Products to Reorder: " + lowStockProducts.size());
-                System.out.println("Suppliers to Contact: " + productsBySupplier.size());
+                System.out.printf("TOTAL ESTIMATED ORDER VALUE: $%.2f%n", reorderList.getTotalCost());
+                System.out.println("Total Products to Reorder: " + reorderList.getProductCount());
+                System.out.println("Suppliers to Contact: " + reorderList.getOrders().size());
                 
                 System.out.println("\nℹ️  Note: Suggested quantities bring stock to 150% of reorder level.");
                 System.out.println("ℹ️  Adjust quantities based on supplier minimums and business needs.");
@@ -1589,8 +1754,43 @@ public class ConsoleUI {
 
     private void performStockAdjustment() {
         System.out.println("\n--- Manual Stock Adjustment ---");
-        System.out.println("Note: Product and Transaction DAO not yet implemented.");
-        System.out.println("This will allow manual adjustment of stock quantities with audit trail.");
+        
+        try {
+            System.out.print("Enter Product ID: ");
+            Integer productId = Integer.parseInt(scanner.nextLine().trim());
+            
+            Optional<Product> productOpt = productService.findProductById(productId);
+            if (!productOpt.isPresent()) {
+                System.out.println("Product not found with ID: " + productId);
+                pauseForUser();
+                return;
+            }
+            
+            Product product = productOpt.get();
+            System.out.println("Product: " + product.getProductName());
+            System.out.println("Current stock: " + product.getStockQuantity());
+            
+            System.out.print("Quantity to add (use a negative number to remove): ");
+            int delta = Integer.parseInt(scanner.nextLine().trim());
+            if (delta == 0) {
+                System.out.println("No change made.");
+                pauseForUser();
+                return;
+            }
+            
+            int newQuantity = productService.adjustStock(productId, delta);
+            System.out.println("\n✓ Stock adjusted successfully!");
+            System.out.println("New stock: " + newQuantity);
+            
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format. Please enter a valid integer.");
+        } catch (ProductService.ValidationException e) {
+            System.out.println("\n❌ Validation Error: " + e.getMessage());
+        } catch (SQLException e) {
+            logger.error("Database error adjusting stock", e);
+            System.out.println("\n❌ Database error: " + e.getMessage());
+        }
+        
         pauseForUser();
     }
 
@@ -1610,23 +1810,49 @@ public class ConsoleUI {
             return;
         }
         
-        // Print header
+        printProductsTableHeader();
+        for (Product product : products) {
+            printProductRow(product);
+        }
+    }
+    
+    /**
+     * Print the product table header
+     */
+    private void printProductsTableHeader() {
         System.out.printf("%-5s %-25s %-15s %-15s %-10s %-10s %-10s %-20s%n",
             "ID", "Product Name", "Code", "Category", "Price", "Stock", "Reorder", "Supplier");
         System.out.println("=".repeat(115));
-        
-        // Print product data
-        for (Product product : products) {
-            System.out.printf("%-5d %-25s %-15s %-15s $%-9.2f %-10d %-10d %-20s%n",
-                product.getProductId(),
-                truncateString(product.getProductName(), 24),
-                product.getProductCode() != null ? truncateString(product.getProductCode(), 14) : "N/A",
-                truncateString(product.getCategory(), 14),
-                product.getUnitPrice(),
-                product.getStockQuantity(),
-                product.getReorderLevel(),
-                product.getSupplierName() != null ? truncateString(product.getSupplierName(), 19) : "N/A");
-        }
+    }
+    
+    /**
+     * Print a single product table row
+     */
+    private void printProductRow(Product product) {
+        System.out.printf("%-5d %-25s %-15s %-15s $%-9.2f %-10d %-10d %-20s%n",
+            product.getProductId(),
+            truncateString(product.getProductName(), 24),
+            product.getProductCode() != null ? truncateString(product.getProductCode(), 14) : "N/A",
+            truncateString(product.getCategory(), 14),
+            product.getUnitPrice(),
+            product.getStockQuantity(),
+            product.getReorderLevel(),
+            product.getSupplierName() != null ? truncateString(product.getSupplierName(), 19) : "N/A");
+    }
+    
+    /**
+     * Print a stock row in the product table layout
+     */
+    private void printStockRow(ProductStockRow row) {
+        System.out.printf("%-5d %-25s %-15s %-15s $%-9.2f %-10d %-10d %-20s%n",
+            row.getProductId(),
+            truncateString(row.getProductName(), 24),
+            row.getProductCode() != null ? truncateString(row.getProductCode(), 14) : "N/A",
+            truncateString(row.getCategory(), 14),
+            row.getUnitPrice(),
+            row.getStockQuantity(),
+            row.getReorderLevel(),
+            row.getSupplierName() != null ? truncateString(row.getSupplierName(), 19) : "N/A");
     }
     
     /**
@@ -1639,6 +1865,7 @@ public class ConsoleUI {
     }
 
     private void cleanup() {
+        transactionService.shutdown();
         if (scanner != null) {
             scanner.close();
         }
@@ -0,0 +1,570 @@
+package com.erp.inventory.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool.
+ * Hands out logical connections whose close() returns the physical connection to the pool.
+ * Borrowers wait in a fair (FIFO) queue when all connections are in use.
+ * Each physical connection keeps an LRU cache of prepared statements keyed by SQL text,
+ * so repeated DAO queries skip the driver parse and server prepare round trip.
+ */
+public class ConnectionPool {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+    private final String url;
+    private final Properties connectionProperties;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long connectionTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Create a pool and open the minimum number of connections
+     * @param url JDBC URL
+     * @param connectionProperties Driver properties (user, password, ...)
+     * @param minSize Number of idle connections kept open
+     * @param maxSize Maximum number of open connections
+     * @param idleTimeoutMillis Idle time after which connections above minSize are closed
+     * @param connectionTimeoutMillis Maximum time to wait for a free connection
+     * @param validationTimeoutSeconds Timeout for the validation check on borrow
+     * @param evictionIntervalMillis Interval between idle eviction runs
+     * @param statementCacheSize Prepared statements cached per connection (0 disables caching)
+     */
+    public ConnectionPool(String url, Properties connectionProperties, int minSize, int maxSize,
+                          long idleTimeoutMillis, long connectionTimeoutMillis,
+                          int validationTimeoutSeconds, long evictionIntervalMillis,
+                          int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool max size must be at least 1");
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool min size must be between 0 and max size");
+        }
+
+        this.url = url;
+        this.connectionProperties = connectionProperties;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(maxSize, true);
+
+        fillToMinimum();
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (evictionIntervalMillis > 0) {
+            evictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                    evictionIntervalMillis, evictionIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        logger.info("Connection pool started (min={}, max={}, statement cache={})",
+                minSize, maxSize, this.statementCacheSize);
+    }
+
+    /**
+     * Borrow a connection from the pool
+     * @return Connection whose close() returns it to the pool
+     * @throws SQLException if no connection becomes available within the timeout
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + connectionTimeoutMillis
+                        + " ms waiting for a database connection (max pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMillis);
+            while (true) {
+                PooledConnection pooled;
+                while ((pooled = idleConnections.pollFirst()) != null) {
+                    if (isValid(pooled)) {
+                        return pooled.borrow();
+                    }
+                    logger.debug("Discarding invalid pooled connection");
+                    discard(pooled);
+                }
+
+                pooled = openConnection(maxSize);
+                if (pooled != null) {
+                    return pooled.borrow();
+                }
+                // At the cap with none idle: a connection is on its way back to the idle list
+                if (System.nanoTime() - deadline > 0) {
+                    throw new SQLException("Timed out after " + connectionTimeoutMillis
+                            + " ms waiting for a database connection (max pool size " + maxSize + ")");
+                }
+                Thread.yield();
+            }
+
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close all idle connections and reject further borrows.
+     * Connections currently in use are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            discard(pooled);
+        }
+        logger.info("Connection pool shut down (statement cache hits={}, misses={})",
+                statementCacheHits.sum(), statementCacheMisses.sum());
+    }
+
+    /**
+     * Get number of open physical connections
+     * @return open connections (idle and in use)
+     */
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    /**
+     * Get number of idle connections
+     * @return idle connections
+     */
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    /**
+     * Get number of connections currently borrowed
+     * @return active connections
+     */
+    public int getActiveConnections() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Get number of threads waiting for a connection
+     * @return waiting threads
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Get number of prepareStatement calls served from a statement cache
+     * @return statement cache hits across all connections
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    /**
+     * Get number of prepareStatement calls that had to prepare a new statement
+     * @return statement cache misses across all connections
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void fillToMinimum() {
+        while (!closed) {
+            try {
+                PooledConnection pooled = openConnection(minSize);
+                if (pooled == null) {
+                    return;
+                }
+                idleConnections.offerLast(pooled);
+            } catch (SQLException e) {
+                logger.warn("Could not open connection while filling pool to minimum size", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Open a physical connection unless the pool already holds the given number.
+     * The slot is claimed before connecting, so concurrent openers never exceed the limit.
+     * @return the new connection, or null if the pool is at the limit
+     */
+    private PooledConnection openConnection(int limit) throws SQLException {
+        int total;
+        do {
+            total = totalConnections.get();
+            if (total >= limit) {
+                return null;
+            }
+        } while (!totalConnections.compareAndSet(total, total + 1));
+
+        Connection physical;
+        try {
+            physical = DriverManager.getConnection(url, connectionProperties);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+        logger.debug("Opened new pooled connection ({} total)", total + 1);
+        return new PooledConnection(physical);
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing discarded connection", e);
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        try {
+            if (closed || !pooled.reset()) {
+                discard(pooled);
+            } else {
+                pooled.lastUsed = System.currentTimeMillis();
+                idleConnections.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdleConnections() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+
+        // Oldest idle connections sit at the tail since returns are pushed to the head
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext() && totalConnections.get() > minSize) {
+            PooledConnection pooled = iterator.next();
+            if (pooled.lastUsed < cutoff && idleConnections.removeLastOccurrence(pooled)) {
+                logger.debug("Evicting idle connection");
+                discard(pooled);
+            }
+        }
+
+        fillToMinimum();
+    }
+
+    /**
+     * Physical connection owned by the pool
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final Map<StatementKey, CachedStatement> statementCache;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+                    if (size() > statementCacheSize) {
+                        eldest.getValue().evict();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Prepare a statement, reusing a cached one for the same SQL when it is not already in use
+         */
+        private PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+            if (statementCacheSize == 0) {
+                statementCacheMisses.increment();
+                return physical.prepareStatement(sql, autoGeneratedKeys);
+            }
+
+            StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+            CachedStatement cached = statementCache.get(key);
+            if (cached != null && !cached.inUse) {
+                statementCacheHits.increment();
+                return cached.checkout();
+            }
+
+            statementCacheMisses.increment();
+            PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+            if (cached != null) {
+                // Same SQL is already open on this connection (nested use); do not cache the second copy
+                return statement;
+            }
+
+            cached = new CachedStatement(statement);
+            statementCache.put(key, cached);
+            return cached.checkout();
+        }
+
+        private Connection borrow() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new ConnectionHandle(this));
+        }
+
+        /**
+         * Restore default session state before the connection goes back to the pool
+         * @return false if the connection is unusable and should be discarded
+         */
+        private boolean reset() {
+            try {
+                if (physical.isClosed()) {
+                    return false;
+                }
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                if (physical.isReadOnly()) {
+                    physical.setReadOnly(false);
+                }
+                physical.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                logger.warn("Failed to reset pooled connection, discarding it", e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Cache key: SQL text plus the generated keys flag the statement was prepared with
+     */
+    private static final class StatementKey {
+        private final String sql;
+        private final int autoGeneratedKeys;
+
+        private StatementKey(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StatementKey)) return false;
+            StatementKey that = (StatementKey) o;
+            return autoGeneratedKeys == that.autoGeneratedKeys && sql.equals(that.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, autoGeneratedKeys);
+        }
+    }
+
+    /**
+     * Prepared statement owned by a connection's statement cache.
+     * Borrowers get a proxy whose close() hands the statement back instead of closing it.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement physical;
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(PreparedStatement physical) {
+            this.physical = physical;
+        }
+
+        private PreparedStatement checkout() {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new StatementHandle(this));
+        }
+
+        private void checkin() {
+            inUse = false;
+            try {
+                if (evicted) {
+                    physical.close();
+                } else {
+                    // A result set the borrower left open must not outlive its borrow
+                    ResultSet open = physical.getResultSet();
+                    if (open != null) {
+                        open.close();
+                    }
+                    physical.clearParameters();
+                    // A batch abandoned by an exception must not leak into the next borrower
+                    physical.clearBatch();
+                    physical.clearWarnings();
+                    // Streaming queries change the fetch size; later borrowers expect the default
+                    physical.setFetchSize(0);
+                }
+            } catch (SQLException e) {
+                logger.debug("Error returning cached statement", e);
+            }
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    physical.close();
+                } catch (SQLException e) {
+                    logger.debug("Error closing evicted statement", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Logical statement handed to a borrower
+     */
+    private static final class StatementHandle implements InvocationHandler {
+        private CachedStatement cached;
+
+        private StatementHandle(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (cached != null) {
+                        CachedStatement returned = cached;
+                        cached = null;
+                        returned.checkin();
+                    }
+                    return null;
+                case "isClosed":
+                    return cached == null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            CachedStatement current = cached;
+            if (current == null) {
+                throw new SQLException("Statement is closed");
+            }
+            try {
+                return method.invoke(current.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Logical connection handed to a borrower.
+     * A handle is single-use: once closed it cannot reach the physical connection again.
+     */
+    private final class ConnectionHandle implements InvocationHandler {
+        private PooledConnection pooled;
+
+        private ConnectionHandle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (this) {
+                        if (pooled != null) {
+                            PooledConnection returned = pooled;
+                            pooled = null;
+                            release(returned);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return pooled == null || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + (pooled != null ? pooled.physical : "closed") + "]";
+                default:
+                    break;
+            }
+
+            PooledConnection current = pooled;
+            if (current == null) {
+                throw new SQLException("Connection is closed");
+            }
+            if ("prepareStatement".equals(method.getName()) && args.length <= 2
+                    && (args.length == 1 || args[1] instanceof Integer)) {
+                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                return current.prepare((String) args[0], autoGeneratedKeys);
+            }
+            try {
+                return method.invoke(current.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.erp.inventory.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * Database vendors supported by the DAO layer, detected from the JDBC URL.
+ * Holds the vendor-specific JDBC settings the DAOs need.
+ */
+public enum DatabaseDialect {
+    MYSQL,
+    POSTGRESQL,
+    H2,
+    GENERIC;
+
+    /**
+     * Detect the dialect from a JDBC URL
+     * @param url JDBC URL
+     * @return matching dialect, GENERIC if unknown
+     */
+    public static DatabaseDialect fromUrl(String url) {
+        if (url == null) {
+            return GENERIC;
+        }
+        if (url.startsWith("jdbc:mysql:")) {
+            return MYSQL;
+        }
+        if (url.startsWith("jdbc:postgresql:")) {
+            return POSTGRESQL;
+        }
+        if (url.startsWith("jdbc:h2:")) {
+            return H2;
+        }
+        return GENERIC;
+    }
+
+    /**
+     * Add driver properties that make JDBC batches efficient.
+     * Without them MySQL and PostgreSQL send a batch as one statement per row.
+     * Values already present are kept.
+     * @param connectionProperties Properties passed to the driver
+     */
+    public void applyConnectionProperties(Properties connectionProperties) {
+        switch (this) {
+            case MYSQL:
+                connectionProperties.putIfAbsent("rewriteBatchedStatements", "true");
+                break;
+            case POSTGRESQL:
+                connectionProperties.putIfAbsent("reWriteBatchedInserts", "true");
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the largest number of values to bind in one IN (...) list.
+     * MySQL is bounded by max_allowed_packet and PostgreSQL by the 32767
+     * bind parameter limit of its protocol; unknown drivers stay conservative.
+     * @return maximum IN-list size
+     */
+    public int getMaxInListSize() {
+        switch (this) {
+            case MYSQL:
+                return 1000;
+            case POSTGRESQL:
+                return 4096;
+            case H2:
+                return 1000;
+            default:
+                return 256;
+        }
+    }
+
+    /**
+     * Check whether an exception reports a duplicate key.
+     * MySQL reports every integrity violation as 23000 and tells them apart by error code.
+     * @param e Exception thrown by the driver
+     * @return true if a unique constraint or primary key was violated
+     */
+    public boolean isUniqueViolation(SQLException e) {
+        if (this == MYSQL) {
+            return e.getErrorCode() == 1062;
+        }
+        return "23505".equals(e.getSQLState());
+    }
+
+    /**
+     * Bind a Java enum to a column declared with a database enum type.
+     * PostgreSQL rejects varchar parameters for enum columns, so the value is sent untyped there.
+     * @param stmt Statement to bind
+     * @param index Parameter index
+     * @param value Enum value, stored by name
+     * @throws SQLException if binding fails
+     */
+    public void setEnum(PreparedStatement stmt, int index, Enum<?> value) throws SQLException {
+        if (this == POSTGRESQL) {
+            stmt.setObject(index, value.name(), Types.OTHER);
+        } else {
+            stmt.setString(index, value.name());
+        }
+    }
+
+    /**
+     * Configure a statement so the driver fetches rows incrementally instead of
+     * buffering the whole result set in memory.
+     * MySQL streams row by row only with fetch size Integer.MIN_VALUE, and
+     * PostgreSQL uses a cursor only when auto-commit is off.
+     * @param connection Connection the statement belongs to
+     * @param stmt Statement to configure
+     * @param fetchSize Rows per round trip for drivers that honour a fetch size
+     * @throws SQLException if the driver rejects the settings
+     */
+    public void configureStreaming(Connection connection, PreparedStatement stmt, int fetchSize) throws SQLException {
+        switch (this) {
+            case MYSQL:
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                break;
+            case POSTGRESQL:
+                // Inside a unit of work auto-commit is already off; otherwise the pool
+                // restores it when the connection is returned
+                if (!TransactionManager.isActive() && connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                }
+                stmt.setFetchSize(fetchSize);
+                break;
+            default:
+                stmt.setFetchSize(fetchSize);
+                break;
+        }
+    }
+
+    /**
+     * Read a timestamp column as a LocalDateTime.
+     * The supported drivers convert directly (JDBC 4.2); unknown drivers go through java.sql.Timestamp.
+     * @param rs Result set positioned on a row
+     * @param column Column index
+     * @return value, or null if the column is NULL
+     * @throws SQLException if the column cannot be read
+     */
+    public LocalDateTime getLocalDateTime(ResultSet rs, int column) throws SQLException {
+        if (this != GENERIC) {
+            return rs.getObject(column, LocalDateTime.class);
+        }
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -3,7 +3,6 @@ package com.erp.inventory.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -26,6 +25,19 @@ public class DatabaseUtil {
     private static String DB_PASSWORD;
     private static String DB_DRIVER;
 
+    // Connection pool configuration defaults
+    private static final int DEFAULT_POOL_MIN_SIZE = 2;
+    private static final int DEFAULT_POOL_MAX_SIZE = 10;
+    private static final long DEFAULT_POOL_IDLE_TIMEOUT_MS = 300_000;
+    private static final long DEFAULT_POOL_CONNECTION_TIMEOUT_MS = 30_000;
+    private static final int DEFAULT_POOL_VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_POOL_EVICTION_INTERVAL_MS = 60_000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 50;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static volatile ConnectionPool connectionPool;
+
     // Initialize database configuration
     static {
         loadDatabaseProperties();
@@ -82,7 +94,10 @@ public class DatabaseUtil {
     }
 
     /**
-     * Get a database connection
+     * Get a pooled database connection.
+     * Closing the returned connection hands it back to the pool.
+     * Inside a unit of work (see TransactionManager) the connection bound to the
+     * current thread is returned instead, and closing it has no effect.
      * @return Connection object
      * @throws SQLException if connection cannot be established
      */
@@ -91,9 +106,14 @@ public class DatabaseUtil {
             throw new SQLException("Database not initialized properly");
         }
 
+        Connection boundConnection = TransactionManager.currentConnection();
+        if (boundConnection != null) {
+            return boundConnection;
+        }
+
         try {
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-            logger.debug("Database connection established");
+            Connection connection = getConnectionPool().getConnection();
+            logger.debug("Database connection borrowed from pool");
             return connection;
         } catch (SQLException e) {
             logger.error("Failed to establish database connection", e);
@@ -101,6 +121,101 @@ public class DatabaseUtil {
         }
     }
 
+    /**
+     * Get the connection pool, creating it on first use
+     * @return connection pool for the current configuration
+     */
+    public static ConnectionPool getConnectionPool() {
+        ConnectionPool pool = connectionPool;
+        if (pool == null) {
+            synchronized (DatabaseUtil.class) {
+                pool = connectionPool;
+                if (pool == null) {
+                    pool = createConnectionPool();
+                    connectionPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Close all pooled connections.
+     * A new pool is created on the next call to getConnection().
+     */
+    public static synchronized void shutdown() {
+        if (connectionPool != null) {
+            connectionPool.shutdown();
+            connectionPool = null;
+        }
+    }
+
+    private static ConnectionPool createConnectionPool() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", DB_USERNAME);
+        connectionProperties.setProperty("password", DB_PASSWORD);
+        getDialect().applyConnectionProperties(connectionProperties);
+
+        return new ConnectionPool(
+                DB_URL,
+                connectionProperties,
+                getIntProperty("db.pool.min.size", DEFAULT_POOL_MIN_SIZE),
+                getIntProperty("db.pool.max.size", DEFAULT_POOL_MAX_SIZE),
+                getLongProperty("db.pool.idle.timeout.ms", DEFAULT_POOL_IDLE_TIMEOUT_MS),
+                getLongProperty("db.pool.connection.timeout.ms", DEFAULT_POOL_CONNECTION_TIMEOUT_MS),
+                getIntProperty("db.pool.validation.timeout.seconds", DEFAULT_POOL_VALIDATION_TIMEOUT_SECONDS),
+                getLongProperty("db.pool.eviction.interval.ms", DEFAULT_POOL_EVICTION_INTERVAL_MS),
+                getIntProperty("db.pool.statement.cache.size", DEFAULT_STATEMENT_CACHE_SIZE));
+    }
+
+    /**
+     * Get a configuration value from application.properties
+     * @param key Property key
+     * @param defaultValue Value used when the key is missing
+     * @return configured value or default
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Get an integer configuration value from application.properties
+     * @param key Property key
+     * @param defaultValue Value used when the key is missing or invalid
+     * @return configured value or default
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid integer for {}: {}, using default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get a long configuration value from application.properties
+     * @param key Property key
+     * @param defaultValue Value used when the key is missing or invalid
+     * @return configured value or default
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid number for {}: {}, using default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Test database connection
      * @return true if connection is successful, false otherwise
@@ -137,6 +252,38 @@ public class DatabaseUtil {
         return DB_URL;
     }
 
+    /**
+     * Get the database dialect for the configured URL
+     * @return database dialect
+     */
+    public static DatabaseDialect getDialect() {
+        return DatabaseDialect.fromUrl(DB_URL);
+    }
+
+    /**
+     * Get the number of rows fetched per round trip by streaming queries
+     * @return configured fetch size
+     */
+    public static int getFetchSize() {
+        return getIntProperty("db.fetch.size", DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Get the number of rows sent per JDBC batch by bulk inserts
+     * @return configured batch size
+     */
+    public static int getBatchSize() {
+        return Math.max(1, getIntProperty("db.batch.size", DEFAULT_BATCH_SIZE));
+    }
+
+    /**
+     * Get the largest number of ids bound in one IN (...) list by multi-get queries
+     * @return configured IN-list size, or the dialect default
+     */
+    public static int getMaxInListSize() {
+        return Math.max(1, getIntProperty("db.in.list.max.size", getDialect().getMaxInListSize()));
+    }
+
     /**
      * Get database username
      * @return database username
@@ -157,12 +304,14 @@ public class DatabaseUtil {
      * Reload database configuration
      */
     public static void reloadConfiguration() {
+        shutdown();
         initialized = false;
         loadDatabaseProperties();
     }
 
     // Configuration methods for testing
     public static void setTestConfiguration(String url, String username, String password) {
+        shutdown();
         DB_URL = url;
         DB_USERNAME = username;
         DB_PASSWORD = password;
@@ -176,4 +325,12 @@ public class DatabaseUtil {
             logger.error("Test database driver not found", e);
         }
     }
-}
\ No newline at end of file
+
+    public static void setTestProperty(String key, String value) {
+        if (value == null) {
+            properties.remove(key);
+        } else {
+            properties.setProperty(key, value);
+        }
+    }
+}
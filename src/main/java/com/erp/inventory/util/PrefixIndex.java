@@ -0,0 +1,238 @@
+package com.erp.inventory.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable sorted array of normalized names for prefix completion.
+ * A completion is a binary search for the first name at or after the prefix,
+ * then a walk forward while names still start with it, so it costs O(log n + limit)
+ * and needs no locking. Changes return a new index; each copies the arrays once,
+ * which suits catalogs that are read far more often than written.
+ */
+public final class PrefixIndex {
+    public static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new int[0], new String[0]);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Sorted by key, then ID
+    private final String[] keys;
+    private final int[] ids;
+    private final String[] names;
+
+    private PrefixIndex(String[] keys, int[] ids, String[] names) {
+        this.keys = keys;
+        this.ids = ids;
+        this.names = names;
+    }
+
+    /**
+     * Build an index
+     * @param namesById Name of each entry by ID; null names are skipped
+     * @return new index
+     */
+    public static PrefixIndex build(Map<Integer, String> namesById) {
+        List<Completion> entries = new ArrayList<>(namesById.size());
+        for (Map.Entry<Integer, String> entry : namesById.entrySet()) {
+            if (entry.getValue() != null) {
+                entries.add(new Completion(entry.getKey(), entry.getValue(), normalize(entry.getValue())));
+            }
+        }
+        entries.sort((a, b) -> compare(a.key, a.id, b.key, b.id));
+
+        String[] keys = new String[entries.size()];
+        int[] ids = new int[entries.size()];
+        String[] names = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).key;
+            ids[i] = entries.get(i).id;
+            names[i] = entries.get(i).name;
+        }
+        return new PrefixIndex(keys, ids, names);
+    }
+
+    /**
+     * Normalize a name for matching: accents removed, lower case, single spaces
+     * @param name Name as entered
+     * @return normalized name
+     */
+    public static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        String stripped = MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Find names starting with a prefix
+     * @param prefix Prefix as typed; normalized before matching
+     * @param limit Maximum number of completions
+     * @return up to limit completions in name order
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        int index = lowerBound(key);
+        List<Completion> completions = new ArrayList<>(Math.min(limit, 16));
+        while (index < keys.length && completions.size() < limit && keys[index].startsWith(key)) {
+            completions.add(new Completion(ids[index], names[index], keys[index]));
+            index++;
+        }
+        return Collections.unmodifiableList(completions);
+    }
+
+    /**
+     * Add an entry, replacing any entry with the same ID
+     * @param id Entry ID
+     * @param name Name; a null name only removes the old entry
+     * @return new index
+     */
+    public PrefixIndex with(int id, String name) {
+        if (name == null) {
+            return without(id);
+        }
+
+        int old = indexOf(id);
+        String key = normalize(name);
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], ids[mid], key, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int size = old < 0 ? keys.length + 1 : keys.length;
+        String[] keys = new String[size];
+        int[] ids = new int[size];
+        String[] names = new String[size];
+        int at;
+        if (old < 0) {
+            copyAround(this, low, keys, ids, names, low, 1);
+            at = low;
+        } else if (low <= old) {
+            // Moves toward the front: entries from low up to the old one shift back by one
+            copyRange(this, 0, keys, ids, names, 0, low);
+            copyRange(this, low, keys, ids, names, low + 1, old - low);
+            copyRange(this, old + 1, keys, ids, names, old + 1, size - old - 1);
+            at = low;
+        } else {
+            // Moves toward the end: entries after the old one up to low shift forward by one
+            copyRange(this, 0, keys, ids, names, 0, old);
+            copyRange(this, old + 1, keys, ids, names, old, low - old - 1);
+            copyRange(this, low, keys, ids, names, low, size - low);
+            at = low - 1;
+        }
+        keys[at] = key;
+        ids[at] = id;
+        names[at] = name;
+        return new PrefixIndex(keys, ids, names);
+    }
+
+    /**
+     * Remove the entry with an ID
+     * @param id Entry ID
+     * @return new index, or this one if the ID is not indexed
+     */
+    public PrefixIndex without(int id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return this;
+        }
+
+        int size = keys.length - 1;
+        String[] keys = new String[size];
+        int[] ids = new int[size];
+        String[] names = new String[size];
+        copyAround(this, index, keys, ids, names, index + 1, 0);
+        return new PrefixIndex(keys, ids, names);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private int indexOf(int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * First position whose key is not less than the prefix
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copy source[0, split) to the start of the targets and source[resume, end) to
+     * position split + gap onward
+     */
+    private static void copyAround(PrefixIndex source, int split, String[] keys, int[] ids, String[] names,
+                                   int resume, int gap) {
+        copyRange(source, 0, keys, ids, names, 0, split);
+        copyRange(source, resume, keys, ids, names, split + gap, source.keys.length - resume);
+    }
+
+    private static void copyRange(PrefixIndex source, int from, String[] keys, int[] ids, String[] names,
+                                  int to, int length) {
+        System.arraycopy(source.keys, from, keys, to, length);
+        System.arraycopy(source.ids, from, ids, to, length);
+        System.arraycopy(source.names, from, names, to, length);
+    }
+
+    private static int compare(String key1, int id1, String key2, int id2) {
+        int byKey = key1.compareTo(key2);
+        return byKey != 0 ? byKey : Integer.compare(id1, id2);
+    }
+
+    /**
+     * A name that matched a prefix
+     */
+    public static final class Completion {
+        private final int id;
+        private final String name;
+        private final String key;
+
+        private Completion(int id, String name, String key) {
+            this.id = id;
+            this.name = name;
+            this.key = key;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + id + ")";
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.erp.inventory.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequence that orders the stock changes of a product by commit.
+ * Every stock write draws a version after its UPDATE and before its commit, while it
+ * still holds the product's row lock, so a later commit of the same product always
+ * draws a higher version. In-memory copies of stock levels use the versions to drop
+ * levels that reach them out of commit order.
+ */
+public final class StockVersions {
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private StockVersions() {
+    }
+
+    /**
+     * Draw the version of a stock write; call while its row lock is held
+     * @return version, higher than every version drawn before
+     */
+    public static long next() {
+        return sequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,202 @@
+package com.erp.inventory.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit-of-work support for the service layer.
+ * Binds one pooled connection to the current thread for the duration of a callback,
+ * so every DAO call made inside it shares the connection and commits once at the end.
+ */
+public final class TransactionManager {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionManager.class);
+
+    private static final ThreadLocal<UnitOfWork> currentUnitOfWork = new ThreadLocal<>();
+
+    private TransactionManager() {
+    }
+
+    /**
+     * Work executed inside a unit of work
+     * @param <T> Result type
+     * @param <E> Checked exception thrown by the work besides SQLException
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T, E extends Exception> {
+        T doInTransaction() throws SQLException, E;
+    }
+
+    /**
+     * Run the callback in a unit of work.
+     * Joins the current unit of work if one is already active on this thread.
+     * Commits when the callback returns and rolls back if it throws.
+     * @param callback Work to execute
+     * @return Result of the callback
+     * @throws SQLException if database operation fails
+     * @throws E if the callback throws it
+     */
+    public static <T, E extends Exception> T inTransaction(TransactionCallback<T, E> callback) throws SQLException, E {
+        if (currentUnitOfWork.get() != null) {
+            return callback.doInTransaction();
+        }
+
+        Connection connection = DatabaseUtil.getConnectionPool().getConnection();
+        UnitOfWork unitOfWork = new UnitOfWork(connection);
+        try {
+            connection.setAutoCommit(false);
+            currentUnitOfWork.set(unitOfWork);
+
+            T result = callback.doInTransaction();
+            connection.commit();
+            unitOfWork.committed = true;
+            logger.debug("Unit of work committed");
+            return result;
+
+        } catch (Throwable t) {
+            rollbackQuietly(connection);
+            throw t;
+        } finally {
+            currentUnitOfWork.remove();
+            connection.close();
+            unitOfWork.runCompletionCallbacks();
+        }
+    }
+
+    /**
+     * Run an action once the current unit of work has committed or rolled back,
+     * or immediately if no unit of work is active.
+     * Used to drop cached state only after the change is visible to other connections.
+     * @param action Action to run
+     */
+    public static void afterCompletion(Runnable action) {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        if (unitOfWork != null) {
+            unitOfWork.completionCallbacks.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run an action once the current unit of work has committed, or immediately if no
+     * unit of work is active. The action is dropped if the unit of work rolls back.
+     * Used to apply in-memory changes that must match what was committed.
+     * @param action Action to run
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        if (unitOfWork != null) {
+            unitOfWork.commitCallbacks.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Check if a unit of work is active on the current thread
+     * @return true if DAO calls on this thread share a connection
+     */
+    public static boolean isActive() {
+        return currentUnitOfWork.get() != null;
+    }
+
+    /**
+     * Get the connection bound to the current unit of work.
+     * The returned view ignores close() and rejects transaction control calls,
+     * which stay with the unit of work; savepoints are allowed.
+     * @return bound connection view, or null if no unit of work is active
+     */
+    static Connection currentConnection() {
+        UnitOfWork unitOfWork = currentUnitOfWork.get();
+        return unitOfWork != null ? unitOfWork.view : null;
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+            logger.debug("Unit of work rolled back");
+        } catch (SQLException e) {
+            logger.error("Error rolling back unit of work", e);
+        }
+    }
+
+    /**
+     * Connection bound to a thread plus the shared view handed to DAOs
+     */
+    private static final class UnitOfWork {
+        private final Connection view;
+        private final List<Runnable> completionCallbacks = new ArrayList<>();
+        private final List<Runnable> commitCallbacks = new ArrayList<>();
+        private boolean committed;
+
+        private UnitOfWork(Connection connection) {
+            this.view = (Connection) Proxy.newProxyInstance(
+                    TransactionManager.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new SharedConnectionHandler(connection));
+        }
+
+        private void runCompletionCallbacks() {
+            if (committed) {
+                run(commitCallbacks);
+            }
+            run(completionCallbacks);
+        }
+
+        private static void run(List<Runnable> callbacks) {
+            for (Runnable callback : callbacks) {
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    logger.error("Error in unit of work completion callback", e);
+                }
+            }
+        }
+    }
+
+    private static final class SharedConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private SharedConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "rollback":
+                    // Rolling back to a savepoint stays inside the unit of work
+                    if (args != null && args.length == 1) {
+                        break;
+                    }
+                    throw new SQLException("Transaction is managed by the current unit of work");
+                case "commit":
+                case "setAutoCommit":
+                    throw new SQLException("Transaction is managed by the current unit of work");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
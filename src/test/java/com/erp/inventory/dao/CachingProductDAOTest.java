@@ -0,0 +1,190 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Product;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingProductDAO
+ * Uses a mocked delegate DAO
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingProductDAOTest {
+
+    @Mock
+    private ProductDAO delegate;
+
+    private CachingProductDAO cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CachingProductDAO(delegate, 2, 0);
+    }
+
+    private Product product(int id, String code) {
+        Product product = new Product("Product " + id, code, "General", null,
+                                      new BigDecimal("9.99"), 10, 2, 1);
+        product.setProductId(id);
+        return product;
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by ID and code from the cache")
+    void testReadThrough() throws SQLException {
+        // Given
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+
+        // When
+        cache.findById(1);
+        Optional<Product> byId = cache.findById(1);
+        Product byCode = cache.findByProductCode("SKU-1");
+
+        // Then
+        assertEquals("SKU-1", byId.get().getProductCode());
+        assertEquals(1, byCode.getProductId());
+        verify(delegate, times(1)).findById(1);
+        verify(delegate, never()).findByProductCode("SKU-1");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used product when full")
+    void testLruEviction() throws SQLException {
+        // Given
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+        when(delegate.findById(2)).thenReturn(Optional.of(product(2, "SKU-2")));
+        when(delegate.findById(3)).thenReturn(Optional.of(product(3, "SKU-3")));
+
+        // When - touching 1 makes 2 the eldest
+        cache.findById(1);
+        cache.findById(2);
+        cache.findById(1);
+        cache.findById(3);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        cache.findById(1);
+        verify(delegate, times(1)).findById(1);
+        when(delegate.findByProductCode("SKU-2")).thenReturn(product(2, "SKU-2"));
+        cache.findByProductCode("SKU-2");
+        verify(delegate, times(1)).findByProductCode("SKU-2");
+    }
+
+    @Test
+    @DisplayName("Should invalidate on writes, inserts and stock changes")
+    void testWriteInvalidation() throws SQLException {
+        // Given
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+        cache.findById(1);
+
+        // When & Then
+        cache.updateStockQuantity(1, 50);
+        cache.findById(1);
+        verify(delegate, times(2)).findById(1);
+
+        cache.adjustStock(1, -1, 0);
+        cache.findById(1);
+        verify(delegate, times(3)).findById(1);
+
+        Product changed = product(1, "SKU-1B");
+        when(delegate.update(changed)).thenReturn(changed);
+        cache.update(changed);
+        cache.findByProductCode("SKU-1");
+        verify(delegate).findByProductCode("SKU-1");
+
+        cache.delete(1);
+        cache.findById(1);
+        verify(delegate, times(4)).findById(1);
+
+        Product saved = product(1, "SKU-1");
+        when(delegate.save(saved)).thenReturn(saved);
+        cache.save(saved);
+        cache.findById(1);
+        verify(delegate, times(5)).findById(1);
+    }
+
+    @Test
+    @DisplayName("Should skip caching a load only when its own product was invalidated meanwhile")
+    void testInvalidationDuringLoad() throws SQLException {
+        // Given - another product is written while product 1 loads, product 2 itself while it loads
+        when(delegate.findById(1)).thenAnswer(invocation -> {
+            cache.invalidate(3);
+            return Optional.of(product(1, "SKU-1"));
+        });
+        when(delegate.findById(2)).thenAnswer(invocation -> {
+            cache.invalidate(2);
+            return Optional.of(product(2, "SKU-2"));
+        });
+
+        // When
+        cache.findById(1);
+        cache.findById(1);
+        cache.findById(2);
+        cache.findById(2);
+
+        // Then
+        verify(delegate, times(1)).findById(1);
+        verify(delegate, times(2)).findById(2);
+    }
+
+    @Test
+    @DisplayName("Should hand out copies that do not change the cached product")
+    void testReturnsCopies() throws SQLException {
+        // Given
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+
+        // When
+        cache.findById(1).get().setStockQuantity(999);
+
+        // Then
+        assertEquals(10, cache.findById(1).get().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Should expire products after the TTL")
+    void testTtlExpiry() throws Exception {
+        // Given
+        cache = new CachingProductDAO(delegate, 10, 1);
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+        cache.findById(1);
+
+        // When
+        Thread.sleep(5);
+        cache.findById(1);
+
+        // Then
+        verify(delegate, times(2)).findById(1);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Should load only uncached products in a multi-get")
+    void testFindAllByIdsUsesCache() throws SQLException {
+        // Given
+        when(delegate.findById(1)).thenReturn(Optional.of(product(1, "SKU-1")));
+        when(delegate.findAllByIds(anyCollection())).thenReturn(Map.of(2, product(2, "SKU-2")));
+        cache.findById(1);
+
+        // When
+        Map<Integer, Product> products = cache.findAllByIds(List.of(1, 2));
+
+        // Then
+        assertEquals(2, products.size());
+        verify(delegate).findAllByIds(List.of(2));
+    }
+}
@@ -0,0 +1,151 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Supplier;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingSupplierDAO
+ * Uses a mocked delegate DAO
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingSupplierDAOTest {
+
+    private static final LocalDateTime LOADED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private SupplierDAO delegate;
+
+    private Supplier supplier(int id, String name, boolean active) {
+        Supplier supplier = new Supplier(name);
+        supplier.setSupplierId(id);
+        supplier.setActive(active);
+        return supplier;
+    }
+
+    private void givenLoaded(Supplier... suppliers) throws SQLException {
+        when(delegate.getMaxUpdatedDate()).thenReturn(Optional.of(LOADED_AT));
+        when(delegate.findUpdatedSince(null)).thenReturn(List.of(suppliers));
+    }
+
+    @Test
+    @DisplayName("Should load active suppliers once and serve lookups from memory")
+    void testLookupsFromMemory() throws SQLException {
+        // Given
+        CachingSupplierDAO cache = new CachingSupplierDAO(delegate, 60_000, 0);
+        givenLoaded(supplier(1, "beta", true), supplier(2, "Alpha", true), supplier(3, "Gone", false));
+
+        // When
+        Optional<Supplier> found = cache.findById(1);
+        List<Supplier> all = cache.findAll();
+
+        // Then
+        assertEquals("beta", found.get().getCompanyName());
+        assertFalse(cache.exists(3));
+        assertEquals(2, cache.count());
+        assertEquals("Alpha", all.get(0).getCompanyName());
+        assertEquals(1, cache.findAllByIds(List.of(1, 3)).size());
+        verify(delegate, times(1)).findUpdatedSince(null);
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should fetch only suppliers changed since the watermark")
+    void testWatermarkRefresh() throws SQLException {
+        // Given
+        CachingSupplierDAO cache = new CachingSupplierDAO(delegate, 0, 0);
+        givenLoaded(supplier(1, "Acme", true), supplier(2, "Bolt", true));
+        cache.count();
+
+        LocalDateTime changedAt = LOADED_AT.plusMinutes(1);
+        Supplier renamed = supplier(1, "Acme Corp", true);
+        when(delegate.getMaxUpdatedDate()).thenReturn(Optional.of(changedAt));
+        when(delegate.findUpdatedSince(LOADED_AT.minusSeconds(5)))
+            .thenReturn(List.of(renamed, supplier(2, "Bolt", false)));
+
+        // When
+        String name = cache.getCompanyName(1);
+
+        // Then
+        assertEquals("Acme Corp", name);
+        assertFalse(cache.exists(2));
+        verify(delegate, times(1)).findUpdatedSince(null);
+        verify(delegate, times(1)).findUpdatedSince(LOADED_AT.minusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should re-read only the watermark's second when the watermark has not moved")
+    void testUnchangedWatermark() throws SQLException {
+        // Given
+        CachingSupplierDAO cache = new CachingSupplierDAO(delegate, 0, 0);
+        givenLoaded(supplier(1, "Acme", true));
+
+        // When
+        cache.findById(1);
+        cache.findById(1);
+        cache.findById(1);
+
+        // Then
+        verify(delegate, times(1)).findUpdatedSince(null);
+        verify(delegate, times(2)).findUpdatedSince(LOADED_AT);
+        verify(delegate, never()).findUpdatedSince(LOADED_AT.minusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should pick up a second update within the watermark's second")
+    void testUpdateWithinWatermarkSecond() throws SQLException {
+        // Given - loaded right after a first update, a second one lands in the same second
+        CachingSupplierDAO cache = new CachingSupplierDAO(delegate, 0, 0);
+        givenLoaded(supplier(1, "Acme", true));
+        cache.count();
+        when(delegate.findUpdatedSince(LOADED_AT))
+            .thenReturn(List.of(supplier(1, "Acme", true), supplier(2, "Bolt", true)));
+
+        // When
+        Optional<Supplier> found = cache.findById(2);
+
+        // Then
+        assertEquals("Bolt", found.get().getCompanyName());
+        assertEquals(2, cache.count());
+    }
+
+    @Test
+    @DisplayName("Should reload written suppliers after the write")
+    void testWriteReloadsSupplier() throws SQLException {
+        // Given
+        CachingSupplierDAO cache = new CachingSupplierDAO(delegate, 60_000, 0);
+        givenLoaded(supplier(1, "Acme", true));
+        cache.count();
+
+        Supplier changed = supplier(1, "Acme Corp", true);
+        when(delegate.update(changed)).thenReturn(changed);
+        when(delegate.findAllByIds(anyCollection())).thenReturn(Map.of(1, changed));
+
+        // When
+        cache.update(changed);
+
+        // Then
+        assertEquals("Acme Corp", cache.findById(1).get().getCompanyName());
+
+        // When - a deleted supplier is no longer found
+        when(delegate.findAllByIds(anyCollection())).thenReturn(Map.of());
+        cache.delete(1);
+
+        // Then
+        assertFalse(cache.findById(1).isPresent());
+    }
+}
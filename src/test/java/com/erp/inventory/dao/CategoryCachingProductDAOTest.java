@@ -0,0 +1,133 @@
+package com.erp.inventory.dao;
+
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.TransactionManager;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CategoryCachingProductDAO
+ * Uses a mocked delegate DAO
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryCachingProductDAOTest {
+
+    @Mock
+    private ProductDAO delegate;
+
+    private CategoryCachingProductDAO dao;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dao = new CategoryCachingProductDAO(delegate, 0);
+        TreeMap<String, Long> counts = new TreeMap<>();
+        counts.put("Electronics", 2L);
+        counts.put("Tools", 1L);
+        when(delegate.getCategoryCounts()).thenReturn(counts);
+    }
+
+    private Product product(int id, String category) {
+        Product product = new Product("Product " + id, "SKU-" + id, category, null,
+                                      new BigDecimal("9.99"), 10, 2, 1);
+        product.setProductId(id);
+        return product;
+    }
+
+    @Test
+    @DisplayName("Should load categories once and serve them from memory")
+    void testCategoriesFromMemory() throws SQLException {
+        // When
+        List<String> first = dao.getDistinctCategories();
+        List<String> second = dao.getAllCategories();
+
+        // Then
+        assertEquals(List.of("Electronics", "Tools"), first);
+        assertEquals(first, second);
+        verify(delegate, times(1)).getCategoryCounts();
+        verify(delegate, never()).getDistinctCategories();
+    }
+
+    @Test
+    @DisplayName("Should adjust counts on save, update and delete")
+    void testWritesAdjustCounts() throws SQLException {
+        // Given
+        dao.getDistinctCategories();
+        Product garden = product(10, "Garden");
+        when(delegate.save(garden)).thenReturn(garden);
+
+        // When - a new category appears
+        dao.save(garden);
+
+        // Then
+        assertEquals(List.of("Electronics", "Garden", "Tools"), dao.getDistinctCategories());
+
+        // When - the only tool moves to Electronics
+        Product moved = product(3, "Electronics");
+        when(delegate.update(moved, "Tools")).thenReturn(moved);
+        dao.update(moved, "Tools");
+
+        // Then
+        assertEquals(List.of("Electronics", "Garden"), dao.getDistinctCategories());
+        assertEquals(3L, dao.getCategoryCounts().get("Electronics"));
+
+        // When - the garden product is deleted
+        when(delegate.delete(10, "Garden")).thenReturn(true);
+        dao.delete(10, "Garden");
+
+        // Then
+        assertEquals(List.of("Electronics"), dao.getDistinctCategories());
+        verify(delegate, times(1)).getCategoryCounts();
+        verify(delegate, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should leave counts unchanged when the unit of work rolls back")
+    void testRollbackKeepsCounts() throws SQLException {
+        // Given
+        DatabaseUtil.setTestConfiguration("jdbc:h2:mem:categorycache;DB_CLOSE_DELAY=-1", "sa", "");
+        dao.getDistinctCategories();
+        Product garden = product(10, "Garden");
+        when(delegate.save(garden)).thenReturn(garden);
+        when(delegate.delete(1, "Tools")).thenReturn(true);
+
+        // When
+        assertThrows(SQLException.class, () -> TransactionManager.inTransaction(() -> {
+            dao.save(garden);
+            dao.delete(1, "Tools");
+            throw new SQLException("Simulated failure");
+        }));
+
+        // Then
+        assertEquals(List.of("Electronics", "Tools"), dao.getDistinctCategories());
+        assertEquals(1L, dao.getCategoryCounts().get("Tools"));
+        DatabaseUtil.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counts on resync")
+    void testResyncCorrectsDrift() throws SQLException {
+        // Given
+        dao.getDistinctCategories();
+        TreeMap<String, Long> actual = new TreeMap<>();
+        actual.put("Tools", 4L);
+        when(delegate.getCategoryCounts()).thenReturn(actual);
+
+        // When
+        dao.resync();
+
+        // Then
+        assertEquals(List.of("Tools"), dao.getDistinctCategories());
+    }
+}
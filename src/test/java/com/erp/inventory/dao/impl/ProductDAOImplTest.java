@@ -0,0 +1,406 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.dao.BatchSaveException;
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.Page;
+import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.model.Product;
+import com.erp.inventory.util.DatabaseUtil;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProductDAOImpl
+ * Uses H2 in-memory database for testing
+ */
+class ProductDAOImplTest {
+
+    private ProductDAO productDAO;
+    private static int supplierId;
+
+    @BeforeAll
+    static void setupDatabase() {
+        // Configure H2 in-memory database for testing
+        DatabaseUtil.setTestConfiguration(
+            "jdbc:h2:mem:productdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        // Create tables for testing
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("CREATE TABLE suppliers (" +
+                        "supplier_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "company_name VARCHAR(100) NOT NULL," +
+                        "contact_person VARCHAR(100)," +
+                        "phone VARCHAR(20)," +
+                        "email VARCHAR(100) UNIQUE," +
+                        "address TEXT," +
+                        "rating DECIMAL(2,1)," +
+                        "is_active BOOLEAN DEFAULT TRUE," +
+                        "created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+
+            stmt.execute("CREATE TABLE products (" +
+                        "product_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "product_name VARCHAR(100) NOT NULL," +
+                        "product_code VARCHAR(50) UNIQUE," +
+                        "category VARCHAR(50) NOT NULL," +
+                        "description TEXT," +
+                        "unit_price DECIMAL(10,2) NOT NULL," +
+                        "stock_quantity INT NOT NULL DEFAULT 0 CHECK (stock_quantity >= 0)," +
+                        "reorder_level INT DEFAULT 10," +
+                        "supplier_id INT NOT NULL," +
+                        "is_active BOOLEAN DEFAULT TRUE," +
+                        "created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "FOREIGN KEY (supplier_id) REFERENCES suppliers(supplier_id))");
+
+            stmt.execute("CREATE INDEX idx_products_name ON products(product_name, product_id)");
+
+            stmt.execute("INSERT INTO suppliers (company_name, rating) VALUES ('Test Supplier', 4.0)");
+            try (ResultSet rs = stmt.executeQuery("SELECT supplier_id FROM suppliers")) {
+                rs.next();
+                supplierId = rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to set up test database", e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        productDAO = new ProductDAOImpl();
+
+        // Clean up products before each test
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("DELETE FROM products");
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to clean up test database", e);
+        }
+    }
+
+    private Product saveProduct(String name, String code, String category) throws SQLException {
+        return productDAO.save(new Product(name, code, category, null,
+                                           new BigDecimal("10.00"), 5, 2, supplierId));
+    }
+
+    @Test
+    @DisplayName("Should page through all products in name order")
+    void testFindAllPage() throws SQLException {
+        // Given - duplicate names make the id the tie-breaker
+        saveProduct("Cable", "C-1", "Electronics");
+        saveProduct("Adapter", "A-1", "Electronics");
+        saveProduct("Cable", "C-2", "Electronics");
+        saveProduct("Battery", "B-1", "Electronics");
+        saveProduct("Desk", "D-1", "Furniture");
+
+        // When
+        List<String> codes = new ArrayList<>();
+        Page<Product> page = productDAO.findAllPage(null, 2);
+        int pages = 1;
+        page.getItems().forEach(p -> codes.add(p.getProductCode()));
+        while (page.hasNext()) {
+            page = productDAO.findAllPage(page.getNextCursor(), 2);
+            page.getItems().forEach(p -> codes.add(p.getProductCode()));
+            pages++;
+        }
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(List.of("A-1", "B-1", "C-1", "C-2", "D-1"), codes);
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should not report a next page when the last page is exactly full")
+    void testFindAllPageExactFit() throws SQLException {
+        // Given
+        saveProduct("Adapter", "A-1", "Electronics");
+        saveProduct("Battery", "B-1", "Electronics");
+
+        // When
+        Page<Product> page = productDAO.findAllPage(null, 2);
+
+        // Then
+        assertEquals(2, page.size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should page products filtered by category")
+    void testFindByCategoryPage() throws SQLException {
+        // Given
+        saveProduct("Chair", "CH-1", "Furniture");
+        saveProduct("Adapter", "A-1", "Electronics");
+        saveProduct("Desk", "D-1", "Furniture");
+        saveProduct("Table", "T-1", "Furniture");
+
+        // When
+        Page<Product> first = productDAO.findByCategoryPage("Furniture", null, 2);
+        Page<Product> second = productDAO.findByCategoryPage("Furniture", first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(2, first.size());
+        assertEquals("Chair", first.getItems().get(0).getProductName());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.size());
+        assertEquals("Table", second.getItems().get(0).getProductName());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should stream every active product")
+    void testForEachProduct() throws SQLException {
+        // Given
+        saveProduct("Adapter", "A-1", "Electronics");
+        saveProduct("Battery", "B-1", "Electronics");
+        Product deleted = saveProduct("Cable", "C-1", "Electronics");
+        productDAO.delete(deleted.getProductId());
+
+        // When
+        List<String> names = new ArrayList<>();
+        productDAO.forEachProduct(product -> names.add(product.getProductName()));
+
+        // Then
+        assertEquals(List.of("Adapter", "Battery"), names);
+    }
+
+    @Test
+    @DisplayName("Should load products by IDs across several IN-list chunks")
+    void testFindAllByIds() throws SQLException {
+        // Given
+        DatabaseUtil.setTestProperty("db.in.list.max.size", "4");
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(saveProduct("Product " + i, "P-" + i, "General").getProductId());
+        }
+        Product deleted = saveProduct("Deleted", "X-1", "General");
+        productDAO.delete(deleted.getProductId());
+
+        List<Integer> requested = new ArrayList<>(ids);
+        requested.add(ids.get(0));
+        requested.add(null);
+        requested.add(deleted.getProductId());
+        requested.add(-1);
+
+        try {
+            // When
+            Map<Integer, Product> products = productDAO.findAllByIds(requested);
+
+            // Then
+            assertEquals(7, products.size());
+            for (Integer id : ids) {
+                assertEquals(id, products.get(id).getProductId());
+            }
+            assertFalse(products.containsKey(deleted.getProductId()));
+            assertTrue(productDAO.findAllByIds(List.of()).isEmpty());
+        } finally {
+            DatabaseUtil.setTestProperty("db.in.list.max.size", null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fill supplier fields from the supplier DAO when not joining suppliers")
+    void testProductsOnlyMode() throws SQLException {
+        // Given
+        ProductDAO productsOnly = new ProductDAOImpl(new SupplierDAOImpl());
+        Product saved = saveProduct("Widget", "W-1", "General");
+
+        // When
+        Product byId = productsOnly.findById(saved.getProductId()).orElseThrow();
+        List<Product> all = productsOnly.findAll();
+        List<Product> streamed = new ArrayList<>();
+        productsOnly.forEachProduct(streamed::add);
+
+        // Then - same supplier fields as the joined queries
+        Product joined = productDAO.findById(saved.getProductId()).orElseThrow();
+        assertEquals("Test Supplier", joined.getSupplierName());
+        assertEquals(joined.getSupplierName(), byId.getSupplierName());
+        assertEquals(0, joined.getSupplierRating().compareTo(byId.getSupplierRating()));
+        assertEquals("Test Supplier", all.get(0).getSupplierName());
+        assertEquals("Test Supplier", streamed.get(0).getSupplierName());
+    }
+
+    @Test
+    @DisplayName("Should stream more products than the fetch size, each once with its supplier")
+    void testForEachProductAcrossFetches() throws SQLException {
+        // Given - five products read two rows per round trip
+        List<Integer> savedIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            savedIds.add(saveProduct("Product " + i, "P-" + i, "General").getProductId());
+        }
+        DatabaseUtil.setTestProperty("db.fetch.size", "2");
+
+        try {
+            for (ProductDAO dao : List.of(productDAO, new ProductDAOImpl(new SupplierDAOImpl()))) {
+                // When
+                List<Product> streamed = new ArrayList<>();
+                dao.forEachProduct(streamed::add);
+
+                // Then
+                List<Integer> streamedIds = new ArrayList<>();
+                for (Product product : streamed) {
+                    streamedIds.add(product.getProductId());
+                    assertEquals("Test Supplier", product.getSupplierName());
+                }
+                assertEquals(savedIds, streamedIds);
+            }
+        } finally {
+            DatabaseUtil.setTestProperty("db.fetch.size", null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read stock rows with only the report columns")
+    void testStockRows() throws SQLException {
+        // Given - the cable drops below its reorder level of 2
+        Product adapter = saveProduct("Adapter", "A-1", "Electronics");
+        Product cable = saveProduct("Cable", "C-1", "Electronics");
+        productDAO.adjustStock(cable.getProductId(), -4, 0);
+
+        // When
+        List<ProductStockRow> rows = new ArrayList<>();
+        productDAO.forEachStockRow(rows::add);
+        List<ProductStockRow> lowStock = productDAO.getLowStockRows();
+        List<ProductStockRow> lowStockProductsOnly = new ProductDAOImpl(new SupplierDAOImpl()).getLowStockRows();
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(adapter.getProductId(), rows.get(0).getProductId());
+        assertEquals("A-1", rows.get(0).getProductCode());
+        assertEquals(0, new BigDecimal("50.00").compareTo(rows.get(0).getStockValue()));
+        assertEquals("Test Supplier", rows.get(0).getSupplierName());
+        assertEquals(1, lowStock.size());
+        assertEquals(1, lowStock.get(0).getStockQuantity());
+        assertEquals(lowStock, lowStockProductsOnly);
+    }
+
+    @Test
+    @DisplayName("Should aggregate item count, units and value per category in SQL")
+    void testCategoryValuations() throws SQLException {
+        // Given - three products of 5 units at 10.00, one of them deleted
+        saveProduct("Adapter", "A-1", "Electronics");
+        saveProduct("Cable", "C-1", "Electronics");
+        Product deleted = saveProduct("Chair", "CH-1", "Furniture");
+        saveProduct("Desk", "D-1", "Furniture");
+        productDAO.delete(deleted.getProductId());
+
+        // When
+        List<CategoryValuation> valuations = productDAO.getCategoryValuations();
+
+        // Then
+        assertEquals(2, valuations.size());
+        assertEquals("Electronics", valuations.get(0).getCategory());
+        assertEquals(2, valuations.get(0).getItemCount());
+        assertEquals(10, valuations.get(0).getTotalUnits());
+        assertEquals(0, new BigDecimal("100.00").compareTo(valuations.get(0).getTotalValue()));
+        assertEquals(1, valuations.get(1).getItemCount());
+    }
+
+    @Test
+    @DisplayName("Should batch insert products and assign generated IDs")
+    void testSaveAll() throws SQLException {
+        // Given
+        DatabaseUtil.setTestProperty("db.batch.size", "3");
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            products.add(new Product("Batch " + i, "BT-" + i, "General", null,
+                                     new BigDecimal("1.50"), i, 2, supplierId));
+        }
+
+        try {
+            // When
+            List<Product> saved = productDAO.saveAll(products);
+
+            // Then
+            assertEquals(7, saved.size());
+            for (Product product : saved) {
+                assertNotNull(product.getProductId());
+                assertEquals(product.getProductCode(),
+                             productDAO.findById(product.getProductId()).get().getProductCode());
+            }
+            assertEquals(7, productDAO.count());
+        } finally {
+            DatabaseUtil.setTestProperty("db.batch.size", null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report failed rows and keep the rest of the batch")
+    void testSaveAllPartialFailure() throws SQLException {
+        // Given - rows 1 and 3 reuse an existing product code
+        DatabaseUtil.setTestProperty("db.batch.size", "3");
+        saveProduct("Existing", "DUP-1", "General");
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String code = (i == 1 || i == 3) ? "DUP-1" : "OK-" + i;
+            products.add(new Product("Batch " + i, code, "General", null,
+                                     new BigDecimal("1.50"), 1, 2, supplierId));
+        }
+
+        try {
+            // When
+            BatchSaveException e = assertThrows(BatchSaveException.class, () -> productDAO.saveAll(products));
+
+            // Then
+            assertEquals(List.of(1, 3), new ArrayList<>(e.getFailures().keySet()));
+            assertEquals(3, e.getSavedCount());
+            assertNull(products.get(1).getProductId());
+            assertNull(products.get(3).getProductId());
+            assertNotNull(products.get(0).getProductId());
+            assertNotNull(products.get(2).getProductId());
+            assertNotNull(products.get(4).getProductId());
+            assertEquals(4, productDAO.count());
+        } finally {
+            DatabaseUtil.setTestProperty("db.batch.size", null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should adjust stock by a delta and refuse to go below the floor")
+    void testAdjustStock() throws SQLException {
+        // Given - product starts with 5 units
+        Product product = saveProduct("Adapter", "A-1", "Electronics");
+
+        // When & Then
+        assertEquals(Optional.of(8), productDAO.adjustStock(product.getProductId(), 3, 0));
+        assertEquals(Optional.of(0), productDAO.adjustStock(product.getProductId(), -8, 0));
+        assertEquals(Optional.empty(), productDAO.adjustStock(product.getProductId(), -1, 0));
+        assertEquals(Optional.empty(), productDAO.adjustStock(-1, 1, 0));
+        assertEquals(0, productDAO.findById(product.getProductId()).get().getStockQuantity());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        // Clean up H2 database
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("DROP ALL OBJECTS");
+
+        } catch (SQLException e) {
+            // Ignore cleanup errors
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.model.Product;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RowMapper
+ * Uses H2 in-memory database for testing
+ */
+class RowMapperTest {
+
+    private static final RowMapper<Product> MAPPER = RowMapper.builder(Product::unstamped)
+        .column("product_id", ResultSet::getInt, Product::setProductId)
+        .column("product_name", ResultSet::getString, Product::setProductName)
+        .column("reorder_level", RowMapper::nullableInt, Product::setReorderLevel)
+        .optionalColumn("supplier_name", ResultSet::getString, Product::setSupplierName)
+        .build();
+
+    private Connection connection;
+    private Statement stmt;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:rowmapper", "sa", "");
+        stmt = connection.createStatement();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should map columns by label in any order and skip absent optional columns")
+    void testQueryShapes() throws SQLException {
+        // When
+        List<Product> joined;
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT 'Supplier' AS supplier_name, NULL AS reorder_level, 'Cable' AS PRODUCT_NAME, 7 AS product_id")) {
+            joined = MAPPER.mapAll(rs);
+        }
+        Product plain;
+        try (ResultSet rs = stmt.executeQuery("SELECT 8 AS product_id, 'Desk' AS product_name, 5 AS reorder_level")) {
+            plain = MAPPER.mapNext(rs);
+        }
+
+        // Then
+        assertEquals(1, joined.size());
+        assertEquals(7, joined.get(0).getProductId());
+        assertEquals("Cable", joined.get(0).getProductName());
+        assertNull(joined.get(0).getReorderLevel());
+        assertEquals("Supplier", joined.get(0).getSupplierName());
+        assertEquals(8, plain.getProductId());
+        assertEquals(5, plain.getReorderLevel());
+        assertNull(plain.getSupplierName());
+        assertNull(plain.getCreatedDate());
+    }
+
+    @Test
+    @DisplayName("Should reject a result set missing a required column")
+    void testMissingColumn() throws SQLException {
+        // When & Then
+        try (ResultSet rs = stmt.executeQuery("SELECT 1 AS product_id")) {
+            SQLException e = assertThrows(SQLException.class, () -> MAPPER.mapNext(rs));
+            assertTrue(e.getMessage().contains("product_name"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the metadata of a keyed query only the first time")
+    void testQueryKey() throws SQLException {
+        // Given
+        Product first;
+        try (ResultSet rs = stmt.executeQuery("SELECT 7 AS product_id, 'Cable' AS product_name, 5 AS reorder_level")) {
+            first = MAPPER.mapNext(rs, "find-by-id");
+        }
+        ResultSet cached = mock(ResultSet.class);
+        when(cached.next()).thenReturn(true);
+        when(cached.getInt(1)).thenReturn(8);
+        when(cached.getString(2)).thenReturn("Desk");
+        when(cached.getInt(3)).thenReturn(2);
+
+        // When
+        Product second = MAPPER.mapNext(cached, "find-by-id");
+
+        // Then
+        assertEquals(7, first.getProductId());
+        assertEquals(8, second.getProductId());
+        assertEquals("Desk", second.getProductName());
+        assertEquals(2, second.getReorderLevel());
+        verify(cached, never()).getMetaData();
+    }
+}
@@ -0,0 +1,290 @@
+package com.erp.inventory.dao.impl;
+
+import com.erp.inventory.dao.TransactionDAO;
+import com.erp.inventory.dao.TransactionReceipt;
+import com.erp.inventory.model.Transaction;
+import com.erp.inventory.model.TransactionType;
+import com.erp.inventory.util.DatabaseUtil;
+
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionDAOImpl
+ * Uses H2 in-memory database with a Java trigger standing in for the stock update trigger
+ */
+class TransactionDAOImplTest {
+
+    private TransactionDAO transactionDAO;
+    private static int productId;
+
+    @BeforeAll
+    static void setupDatabase() {
+        // Configure H2 in-memory database for testing
+        DatabaseUtil.setTestConfiguration(
+            "jdbc:h2:mem:transactiondb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        // Create tables for testing
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("CREATE TABLE suppliers (" +
+                        "supplier_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "company_name VARCHAR(100) NOT NULL)");
+
+            stmt.execute("CREATE TABLE products (" +
+                        "product_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "product_name VARCHAR(100) NOT NULL," +
+                        "product_code VARCHAR(50) UNIQUE," +
+                        "category VARCHAR(50) NOT NULL," +
+                        "stock_quantity INT NOT NULL DEFAULT 0 CHECK (stock_quantity >= 0)," +
+                        "supplier_id INT," +
+                        "is_active BOOLEAN DEFAULT TRUE," +
+                        "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+
+            stmt.execute("CREATE TABLE transactions (" +
+                        "transaction_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "transaction_type VARCHAR(20) NOT NULL," +
+                        "product_id INT NOT NULL," +
+                        "quantity INT NOT NULL CHECK (quantity > 0)," +
+                        "unit_price DECIMAL(10,2) NOT NULL," +
+                        "total_amount DECIMAL(12,2) GENERATED ALWAYS AS (quantity * unit_price)," +
+                        "transaction_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "created_by INT NULL," +
+                        "reference_number VARCHAR(50)," +
+                        "notes TEXT," +
+                        "FOREIGN KEY (product_id) REFERENCES products(product_id))");
+
+            stmt.execute("CREATE TRIGGER tr_update_stock_on_transaction AFTER INSERT ON transactions " +
+                        "FOR EACH ROW CALL \"" + StockTrigger.class.getName() + "\"");
+
+            stmt.execute("INSERT INTO suppliers (company_name) VALUES ('Test Supplier')");
+            stmt.execute("INSERT INTO products (product_name, product_code, category, supplier_id) " +
+                        "VALUES ('Widget', 'W-1', 'General', 1)");
+            try (ResultSet rs = stmt.executeQuery("SELECT product_id FROM products")) {
+                rs.next();
+                productId = rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to set up test database", e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        transactionDAO = new TransactionDAOImpl(50, 5, 1000);
+
+        // Reset ledger and stock before each test
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("DELETE FROM transactions");
+            stmt.execute("UPDATE products SET stock_quantity = 0");
+        }
+    }
+
+    @AfterEach
+    void tearDownDAO() {
+        transactionDAO.shutdown();
+    }
+
+    private Transaction transaction(TransactionType type, int quantity) {
+        return new Transaction(type, productId, quantity, new BigDecimal("2.50"));
+    }
+
+    private int currentStock() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT stock_quantity FROM products WHERE product_id = " + productId)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should record a transaction and return its ID and resulting stock")
+    void testRecordTransaction() throws Exception {
+        // When
+        TransactionReceipt receipt = transactionDAO.record(transaction(TransactionType.PURCHASE, 10))
+                                                   .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(receipt.getTransactionId() > 0);
+        assertEquals(10, receipt.getStockQuantity());
+        assertEquals(10, currentStock());
+
+        Transaction saved = transactionDAO.findById(receipt.getTransactionId()).orElseThrow();
+        assertEquals(TransactionType.PURCHASE, saved.getTransactionType());
+        assertEquals(new BigDecimal("25.00"), saved.getTotalAmount());
+        assertEquals("Widget", saved.getProductName());
+    }
+
+    @Test
+    @DisplayName("Should group concurrent sales and keep stock consistent")
+    void testConcurrentRecordsAreGrouped() throws Exception {
+        // Given
+        transactionDAO.record(transaction(TransactionType.PURCHASE, 100)).get(5, TimeUnit.SECONDS);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When - 120 sales of one unit compete for 100 units
+            List<Future<CompletableFuture<TransactionReceipt>>> submitted = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                submitted.add(executor.submit(() -> transactionDAO.record(transaction(TransactionType.SALE, 1))));
+            }
+
+            Set<Integer> ids = new HashSet<>();
+            Set<Integer> stockLevels = new HashSet<>();
+            int rejected = 0;
+            for (Future<CompletableFuture<TransactionReceipt>> future : submitted) {
+                try {
+                    TransactionReceipt receipt = future.get().get(5, TimeUnit.SECONDS);
+                    ids.add(receipt.getTransactionId());
+                    stockLevels.add(receipt.getStockQuantity());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(SQLException.class, e.getCause());
+                    rejected++;
+                }
+            }
+
+            // Then - every accepted sale saw a distinct stock level
+            assertEquals(100, ids.size());
+            assertEquals(100, stockLevels.size());
+            assertEquals(20, rejected);
+            assertEquals(0, currentStock());
+            assertEquals(101, transactionDAO.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a sale that exceeds stock without failing its neighbours")
+    void testInsufficientStockRejected() throws Exception {
+        // Given
+        CompletableFuture<TransactionReceipt> purchase = transactionDAO.record(transaction(TransactionType.PURCHASE, 5));
+        CompletableFuture<TransactionReceipt> oversell = transactionDAO.record(transaction(TransactionType.SALE, 6));
+        CompletableFuture<TransactionReceipt> sale = transactionDAO.record(transaction(TransactionType.SALE, 3));
+
+        // When & Then
+        assertEquals(5, purchase.get(5, TimeUnit.SECONDS).getStockQuantity());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> oversell.get(5, TimeUnit.SECONDS));
+        assertEquals("45000", ((SQLException) e.getCause()).getSQLState());
+        assertEquals(2, sale.get(5, TimeUnit.SECONDS).getStockQuantity());
+        assertEquals(2, currentStock());
+    }
+
+    @Test
+    @DisplayName("Should list recent transactions newest first")
+    void testFindRecent() throws Exception {
+        // Given
+        transactionDAO.record(transaction(TransactionType.PURCHASE, 5)).get(5, TimeUnit.SECONDS);
+        TransactionReceipt last = transactionDAO.record(transaction(TransactionType.SALE, 2)).get(5, TimeUnit.SECONDS);
+
+        // When
+        List<Transaction> recent = transactionDAO.findRecent(10);
+        List<Transaction> byProduct = transactionDAO.findByProduct(productId, 1);
+
+        // Then
+        assertEquals(2, recent.size());
+        assertEquals(last.getTransactionId(), recent.get(0).getTransactionId());
+        assertEquals(1, byProduct.size());
+        assertEquals(last.getTransactionId(), byProduct.get(0).getTransactionId());
+    }
+
+    @Test
+    @DisplayName("Should reject transactions after shutdown")
+    void testRecordAfterShutdown() {
+        // Given
+        transactionDAO.shutdown();
+
+        // When
+        CompletableFuture<TransactionReceipt> future = transactionDAO.record(transaction(TransactionType.PURCHASE, 1));
+
+        // Then
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Should fail queued transactions when the writer stops with them unwritten")
+    void testInterruptedWriterFailsQueued() throws Exception {
+        // Given - the writer holds a group open for ten seconds
+        transactionDAO.shutdown();
+        transactionDAO = new TransactionDAOImpl(50, 10_000, 1000);
+        List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(transactionDAO.record(transaction(TransactionType.PURCHASE, 1)));
+        }
+
+        // When
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("transaction-writer")) {
+                thread.interrupt();
+            }
+        }
+
+        // Then
+        for (CompletableFuture<TransactionReceipt> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(SQLException.class, e.getCause());
+        }
+        assertTrue(transactionDAO.record(transaction(TransactionType.PURCHASE, 1)).isCompletedExceptionally());
+        assertEquals(0, currentStock());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        // Clean up H2 database
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("DROP ALL OBJECTS");
+
+        } catch (SQLException e) {
+            // Ignore cleanup errors
+        }
+    }
+
+    /**
+     * H2 version of the stock update trigger in sql/create_database.sql
+     */
+    public static class StockTrigger implements Trigger {
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+            TransactionType type = TransactionType.valueOf((String) newRow[1]);
+            int quantity = (Integer) newRow[3];
+            String sql = type.isAdjustment()
+                ? "UPDATE products SET stock_quantity = ? WHERE product_id = ?"
+                : "UPDATE products SET stock_quantity = stock_quantity + ? WHERE product_id = ?";
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, type.decreasesStock() ? -quantity : quantity);
+                stmt.setInt(2, (Integer) newRow[2]);
+                stmt.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.erp.inventory.model;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Money
+ */
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert from BigDecimal exactly and round extra decimals half up")
+    void testConversion() {
+        // When & Then
+        assertEquals(1999, Money.of(new BigDecimal("19.99")).getCents());
+        assertEquals(250, Money.of(new BigDecimal("2.5")).getCents());
+        assertEquals(250, Money.of(new BigDecimal("2.495")).getCents());
+        assertEquals(new BigDecimal("19.99"), Money.ofCents(1999).toBigDecimal());
+        assertNull(Money.of(null));
+        assertEquals("0.05", Money.ofCents(5).toString());
+    }
+
+    @Test
+    @DisplayName("Should do exact arithmetic and fail on overflow")
+    void testArithmetic() {
+        // Given
+        Money price = Money.of(new BigDecimal("0.10"));
+
+        // When & Then
+        assertEquals(Money.ofCents(30), price.times(3));
+        assertEquals(Money.ofCents(20), price.plus(price));
+        assertTrue(price.minus(price.times(2)).isNegative());
+        assertEquals(new BigDecimal("30.00"), new Transaction(TransactionType.PURCHASE, 1, 300, new BigDecimal("0.10")).getTotalAmount());
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).times(2));
+        assertThrows(ArithmeticException.class, () -> Money.addCents(Long.MAX_VALUE, 1));
+    }
+}
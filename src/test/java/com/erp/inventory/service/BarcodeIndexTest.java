@@ -0,0 +1,88 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.model.Product;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BarcodeIndex
+ */
+class BarcodeIndexTest {
+
+    private BarcodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BarcodeIndex();
+    }
+
+    private Product product(int id, String code, String price, int stock) {
+        Product product = new Product("Product " + id, code, "General", null,
+                                      new BigDecimal(price), stock, 2, 1);
+        product.setProductId(id);
+        return product;
+    }
+
+    @Test
+    @DisplayName("Should find indexed products and fill the scan record")
+    void testLookup() {
+        // Given
+        index.put(product(1, "4006381333931", "2.49", 12));
+        ScanRecord record = new ScanRecord();
+
+        // When & Then
+        assertTrue(index.lookup("4006381333931", record));
+        assertEquals(1, record.getProductId());
+        assertEquals("Product 1", record.getProductName());
+        assertEquals(249, record.getUnitPriceCents());
+        assertEquals(12, record.getStockQuantity());
+        assertFalse(index.lookup("0000000000000", record));
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial capacity and survive removals")
+    void testResizeAndRemove() {
+        // Given
+        for (int i = 1; i <= 5000; i++) {
+            index.put(product(i, "SKU-" + i, "1.00", i));
+        }
+
+        // When - remove every third product
+        for (int i = 3; i <= 5000; i += 3) {
+            index.remove(i);
+        }
+
+        // Then - removals shift entries back without losing any
+        ScanRecord record = new ScanRecord();
+        for (int i = 1; i <= 5000; i++) {
+            assertEquals(i % 3 != 0, index.lookup("SKU-" + i, record), "SKU-" + i);
+            if (i % 3 != 0) {
+                assertEquals(i, record.getProductId());
+            }
+        }
+        assertEquals(5000 - 5000 / 3, index.size());
+    }
+
+    @Test
+    @DisplayName("Should follow code changes and stock updates")
+    void testUpdates() {
+        // Given
+        index.put(product(1, "OLD", "5.00", 3));
+
+        // When
+        index.put(product(1, "NEW", "5.50", 3));
+        index.setStock(1, 7);
+
+        // Then
+        ScanRecord record = new ScanRecord();
+        assertFalse(index.lookup("OLD", record));
+        assertTrue(index.lookup("NEW", record));
+        assertEquals(550, record.getUnitPriceCents());
+        assertEquals(7, record.getStockQuantity());
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,82 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductStockRow;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogSnapshot
+ */
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new CatalogSnapshot.Builder()
+            .add(row(3, "Desk", "Furniture", 10000, 1))
+            .add(row(1, "Cable", "Electronics", 250, 10))
+            .add(row(2, "Adapter", "Electronics", 125, 4))
+            .build();
+    }
+
+    private ProductStockRow row(int id, String name, String category, long priceCents, int stock) {
+        return new ProductStockRow(id, name, "P-" + id, category, priceCents, stock, 5,
+                                   id % 2, "Supplier " + id % 2);
+    }
+
+    private List<ProductStockRow> rowsByName(CatalogSnapshot catalog) {
+        List<ProductStockRow> rows = new ArrayList<>();
+        catalog.forEachByName(rows::add);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Should give back the rows it was built from in name order")
+    void testRoundTrip() {
+        // When
+        List<ProductStockRow> rows = rowsByName(snapshot);
+
+        // Then
+        assertEquals(List.of(row(2, "Adapter", "Electronics", 125, 4),
+                             row(1, "Cable", "Electronics", 250, 10),
+                             row(3, "Desk", "Furniture", 10000, 1)), rows);
+    }
+
+    @Test
+    @DisplayName("Should apply changes to a copy and leave the original untouched")
+    void testCopyOnWrite() {
+        // When - a sale, a new product in a new category, a category move and a deletion
+        CatalogSnapshot changed = snapshot.withStock(1, 2)
+                                          .with(row(4, "Bolt", "Hardware", 10, 100))
+                                          .with(row(2, "Adapter", "Hardware", 125, 40))
+                                          .without(3);
+
+        // Then
+        assertEquals(List.of(row(2, "Adapter", "Hardware", 125, 40),
+                             row(4, "Bolt", "Hardware", 10, 100),
+                             row(1, "Cable", "Electronics", 250, 2)), rowsByName(changed));
+        assertSame(changed, changed.withStock(99, 1));
+        assertEquals(3, snapshot.size());
+        assertEquals(row(1, "Cable", "Electronics", 250, 10), rowsByName(snapshot).get(1));
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of stock changes with one copy of the stock column")
+    void testBatchedStock() {
+        // When
+        CatalogSnapshot changed = snapshot.withStock(Map.of(1, 0, 3, 7, 99, 1));
+
+        // Then
+        assertEquals(List.of(row(2, "Adapter", "Electronics", 125, 4),
+                             row(1, "Cable", "Electronics", 250, 0),
+                             row(3, "Desk", "Furniture", 10000, 7)), rowsByName(changed));
+        assertSame(snapshot, snapshot.withStock(Map.of(2, 4)));
+    }
+}
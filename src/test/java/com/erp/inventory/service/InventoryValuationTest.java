@@ -0,0 +1,65 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.model.Product;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InventoryValuation
+ */
+class InventoryValuationTest {
+
+    private InventoryValuation valuation;
+
+    @BeforeEach
+    void setUp() {
+        valuation = new InventoryValuation();
+        valuation.put(product(1, "Electronics", "2.50", 10));
+        valuation.put(product(2, "Electronics", "1.25", 4));
+        valuation.put(product(3, "Furniture", "100.00", 1));
+    }
+
+    private Product product(int id, String category, String price, int stock) {
+        Product product = new Product("Product " + id, "P-" + id, category, null,
+                                      new BigDecimal(price), stock, 2, 1);
+        product.setProductId(id);
+        return product;
+    }
+
+    @Test
+    @DisplayName("Should total value and units per category")
+    void testTotals() {
+        // When
+        List<CategoryValuation> valuations = valuation.getCategoryValuations();
+
+        // Then
+        assertEquals(2, valuations.size());
+        assertEquals(new CategoryValuation("Electronics", 2, 14, new BigDecimal("30.00")), valuations.get(0));
+        assertEquals(new CategoryValuation("Furniture", 1, 1, new BigDecimal("100.00")), valuations.get(1));
+        assertEquals(new BigDecimal("130.00"), valuation.getTotalValue());
+        assertEquals(15, valuation.getTotalUnits());
+    }
+
+    @Test
+    @DisplayName("Should move only the changed product's contribution")
+    void testIncrementalChanges() {
+        // When - stock sold, a price change that moves category, and a deletion
+        valuation.setStock(1, 6);
+        valuation.put(product(2, "Furniture", "5.00", 4));
+        valuation.remove(3);
+        valuation.setStock(99, 5);
+
+        // Then
+        List<CategoryValuation> valuations = valuation.getCategoryValuations();
+        assertEquals(new CategoryValuation("Electronics", 1, 6, new BigDecimal("15.00")), valuations.get(0));
+        assertEquals(new CategoryValuation("Furniture", 1, 4, new BigDecimal("20.00")), valuations.get(1));
+        assertEquals(new BigDecimal("35.00"), valuation.getTotalValue());
+        assertEquals(2, valuation.getProductCount());
+    }
+}
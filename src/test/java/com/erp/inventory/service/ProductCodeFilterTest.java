@@ -0,0 +1,66 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductDAO;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductCodeFilter
+ * Uses a mocked product DAO
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductCodeFilterTest {
+
+    @Mock
+    private ProductDAO productDAO;
+
+    private ProductCodeFilter filter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        filter = new ProductCodeFilter(productDAO, 0.01, 60_000);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            action.accept("SKU-1");
+            action.accept("SKU-2");
+            return null;
+        }).when(productDAO).forEachProductCode(any());
+    }
+
+    @Test
+    @DisplayName("Should build once and answer unseen codes without a query")
+    void testUnseenCodes() throws SQLException {
+        // When & Then
+        assertTrue(filter.isDefinitelyUnused("SKU-3"));
+        assertFalse(filter.isDefinitelyUnused("SKU-1"));
+
+        filter.add("SKU-3");
+        assertFalse(filter.isDefinitelyUnused("SKU-3"));
+        verify(productDAO, times(1)).forEachProductCode(any());
+    }
+
+    @Test
+    @DisplayName("Should remember database misses until the code is written")
+    void testNegativeCache() throws SQLException {
+        // Given - SKU-2 was deleted, so the database no longer finds it
+        assertFalse(filter.isDefinitelyUnused("SKU-2"));
+
+        // When
+        filter.recordMissing("SKU-2");
+
+        // Then
+        assertTrue(filter.isDefinitelyUnused("SKU-2"));
+        filter.add("SKU-2");
+        assertFalse(filter.isDefinitelyUnused("SKU-2"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductDAO;
+import com.erp.inventory.model.Product;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductSearchIndex
+ * Uses a mocked product DAO
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductDAO productDAO;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        index = new ProductSearchIndex(productDAO);
+        doAnswer(invocation -> {
+            Consumer<Product> action = invocation.getArgument(0);
+            action.accept(product(1, "USB Cable", "CBL-USB-01"));
+            action.accept(product(2, "Cable Tester", "TST-100"));
+            action.accept(product(3, "HDMI cable", "CBL-HDMI-02"));
+            action.accept(product(4, "Microcable Reel", "REEL-7"));
+            action.accept(product(5, "Cable", "CBL-GEN"));
+            return null;
+        }).when(productDAO).forEachProduct(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    private Product product(int id, String name, String code) {
+        Product product = new Product(name, code, "General", null, new BigDecimal("1.00"), 10, 2, 1);
+        product.setProductId(id);
+        return product;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        for (int i = 0; i < 500 && !index.isReady(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    @DisplayName("Should fall back while cold and rank matches once loaded")
+    void testRankedSearch() throws Exception {
+        // When - the first search starts the load
+        assertFalse(index.search("cable").isPresent());
+        awaitReady();
+
+        // Then - exact, prefix, word prefix, then inside a word
+        assertEquals(Arrays.asList(5, 2, 3, 1, 4), index.search("CABLE").get());
+        assertEquals(Collections.singletonList(3), index.search("hdmi").get());
+        assertEquals(Collections.emptyList(), index.search("cablex").get());
+        verify(productDAO, times(1)).forEachProduct(any());
+    }
+
+    @Test
+    @DisplayName("Should match product codes and short queries")
+    void testCodesAndShortQueries() throws Exception {
+        // Given
+        index.search("warm up");
+        awaitReady();
+
+        // When & Then
+        assertEquals(Collections.singletonList(2), index.search("tst-1").get());
+        List<Integer> shortMatches = index.search("mi").get();
+        assertEquals(Arrays.asList(4, 3), shortMatches);
+    }
+
+    @Test
+    @DisplayName("Should apply product changes incrementally")
+    void testIncrementalUpdates() throws Exception {
+        // Given
+        index.search("warm up");
+        awaitReady();
+
+        // When
+        index.productChanged(1, product(1, "USB Charger", "CHG-USB-01"));
+        index.productChanged(3, null);
+        index.productChanged(6, product(6, "Patch Cable", "CBL-PATCH"));
+
+        // Then
+        assertEquals(Arrays.asList(5, 2, 6, 4), index.search("cable").get());
+        assertEquals(Collections.singletonList(1), index.search("charger").get());
+        assertEquals(Collections.emptyList(), index.search("hdmi").get());
+    }
+}
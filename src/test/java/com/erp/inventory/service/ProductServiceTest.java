@@ -0,0 +1,208 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.ProductStockRow;
+import com.erp.inventory.dao.impl.SupplierDAOImpl;
+import com.erp.inventory.util.DatabaseUtil;
+import com.erp.inventory.util.StockVersions;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProductService
+ * Uses H2 in-memory database for testing
+ */
+class ProductServiceTest {
+
+    private static int productId;
+
+    @BeforeAll
+    static void setupDatabase() {
+        DatabaseUtil.setTestConfiguration(
+            "jdbc:h2:mem:productservicedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+            "sa",
+            ""
+        );
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+
+            stmt.execute("CREATE TABLE suppliers (" +
+                        "supplier_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "company_name VARCHAR(100) NOT NULL," +
+                        "contact_person VARCHAR(100)," +
+                        "phone VARCHAR(20)," +
+                        "email VARCHAR(100) UNIQUE," +
+                        "address TEXT," +
+                        "rating DECIMAL(2,1)," +
+                        "is_active BOOLEAN DEFAULT TRUE," +
+                        "created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+
+            stmt.execute("CREATE TABLE products (" +
+                        "product_id INT AUTO_INCREMENT PRIMARY KEY," +
+                        "product_name VARCHAR(100) NOT NULL," +
+                        "product_code VARCHAR(50) UNIQUE," +
+                        "category VARCHAR(50) NOT NULL," +
+                        "description TEXT," +
+                        "unit_price DECIMAL(10,2) NOT NULL," +
+                        "stock_quantity INT NOT NULL DEFAULT 0 CHECK (stock_quantity >= 0)," +
+                        "reorder_level INT DEFAULT 10," +
+                        "supplier_id INT NOT NULL," +
+                        "is_active BOOLEAN DEFAULT TRUE," +
+                        "created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+                        "FOREIGN KEY (supplier_id) REFERENCES suppliers(supplier_id))");
+
+            stmt.execute("INSERT INTO suppliers (company_name, rating) VALUES ('Test Supplier', 4.0)");
+            stmt.execute("INSERT INTO products (product_name, product_code, category, unit_price, " +
+                        "stock_quantity, supplier_id) SELECT 'Widget', 'W-1', 'Tools', 2.50, 100, supplier_id " +
+                        "FROM suppliers");
+            try (ResultSet rs = stmt.executeQuery("SELECT product_id FROM products")) {
+                rs.next();
+                productId = rs.getInt(1);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to set up test database", e);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        DatabaseUtil.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should leave the in-memory stock equal to the database after concurrent stock changes")
+    void testConcurrentStockChangesMatchDatabase() throws Exception {
+        // Given - the barcode index and catalog snapshot are loaded before the writes start
+        ProductService service = new ProductService(new SupplierDAOImpl());
+        ScanRecord scan = new ScanRecord();
+        assertTrue(service.lookupBarcode("W-1", scan));
+        assertEquals(100, stockInCatalog(service));
+
+        // When - adjustments, absolute updates, late notifications and re-reads race on one product
+        int threads = 8;
+        AtomicInteger nextQuantity = new AtomicInteger(100);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    switch (ThreadLocalRandom.current().nextInt(4)) {
+                        case 0 -> service.adjustStock(productId, 1);
+                        case 1 -> service.updateStockQuantity(productId, nextQuantity.incrementAndGet());
+                        case 2 -> receiveStockElsewhere(service);
+                        default -> service.stockChanged(productId);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // Then
+        int stockInDatabase = stockInDatabase();
+        assertTrue(service.lookupBarcode("W-1", scan));
+        assertEquals(stockInDatabase, scan.getStockQuantity());
+        assertEquals(stockInDatabase, stockInCatalog(service));
+    }
+
+    @Test
+    @DisplayName("Should keep the newer stock level when an older one is reported after it")
+    void testLateStockChangeIsDropped() throws Exception {
+        // Given
+        ProductService service = new ProductService(new SupplierDAOImpl());
+        ScanRecord scan = new ScanRecord();
+        assertTrue(service.lookupBarcode("W-1", scan));
+        stockInCatalog(service);
+
+        // When - the first write commits first but its notification is delayed past the second's
+        CountDownLatch secondReported = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> first = executor.submit(() -> {
+            StockChange change = addStock();
+            secondReported.await();
+            service.stockChanged(productId, change.stockQuantity, change.stockVersion);
+            return null;
+        });
+        Thread.sleep(50);
+        StockChange second = addStock();
+        service.stockChanged(productId, second.stockQuantity, second.stockVersion);
+        secondReported.countDown();
+        first.get();
+        executor.shutdown();
+
+        // Then
+        assertEquals(second.stockQuantity, stockInDatabase());
+        assertTrue(service.lookupBarcode("W-1", scan));
+        assertEquals(second.stockQuantity, scan.getStockQuantity());
+        assertEquals(second.stockQuantity, stockInCatalog(service));
+    }
+
+    /**
+     * Add stock the way the transaction writer does, then report it after a random delay
+     */
+    private static void receiveStockElsewhere(ProductService service) throws Exception {
+        StockChange change = addStock();
+        Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        service.stockChanged(productId, change.stockQuantity, change.stockVersion);
+    }
+
+    /**
+     * Add one to the stock, drawing the version while the row is locked
+     */
+    private static StockChange addStock() throws SQLException {
+        int stockQuantity;
+        long stockVersion;
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            stmt.executeUpdate("UPDATE products SET stock_quantity = stock_quantity + 1 WHERE product_id = " + productId);
+            try (ResultSet rs = stmt.executeQuery("SELECT stock_quantity FROM products WHERE product_id = " + productId)) {
+                rs.next();
+                stockQuantity = rs.getInt(1);
+            }
+            stockVersion = StockVersions.next();
+            connection.commit();
+        }
+        return new StockChange(stockQuantity, stockVersion);
+    }
+
+    private record StockChange(int stockQuantity, long stockVersion) {
+    }
+
+    private static int stockInCatalog(ProductService service) throws SQLException {
+        List<ProductStockRow> rows = new ArrayList<>();
+        service.getCatalogSnapshot().forEachByName(rows::add);
+        assertEquals(1, rows.size());
+        return rows.get(0).getStockQuantity();
+    }
+
+    private static int stockInDatabase() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT stock_quantity FROM products WHERE product_id = " + productId)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
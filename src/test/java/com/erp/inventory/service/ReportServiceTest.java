@@ -0,0 +1,76 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dao.CategoryValuation;
+import com.erp.inventory.dao.ProductStockRow;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReportService
+ */
+class ReportServiceTest {
+
+    private CatalogSnapshot catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogSnapshot.Builder()
+            .add(row(1, "Cable", "Electronics", 250, 10, 5, 1))
+            .add(row(2, "Adapter", "Electronics", 125, 4, 8, 2))
+            .add(row(3, "Desk", "Furniture", 10000, 0, 2, 1))
+            .add(row(4, "Chair", "Furniture", 5000, 3, 3, 2))
+            .build();
+    }
+
+    private ProductStockRow row(int id, String name, String category, long priceCents, int stock,
+                                int reorderLevel, int supplierId) {
+        return new ProductStockRow(id, name, "P-" + id, category, priceCents, stock, reorderLevel,
+                                   supplierId, "Supplier " + supplierId);
+    }
+
+    @Test
+    @DisplayName("Should give the same totals whether the catalog is summed in one chunk or many")
+    void testChunkedTotals() {
+        for (ReportService reports : List.of(new ReportService(1_000), new ReportService(1))) {
+            // When
+            StockSummary summary = reports.getStockSummary(catalog);
+            List<CategoryValuation> valuations = reports.getCategoryValuations(catalog);
+
+            // Then
+            assertEquals(4, summary.getProductCount());
+            assertEquals(17, summary.getTotalUnits());
+            assertEquals(3, summary.getLowStockCount());
+            assertEquals(1, summary.getOutOfStockCount());
+            assertEquals(new BigDecimal("180.00"), summary.getTotalValue());
+            assertEquals(List.of(new CategoryValuation("Electronics", 2, 14, new BigDecimal("30.00")),
+                                 new CategoryValuation("Furniture", 2, 3, new BigDecimal("150.00"))),
+                         valuations);
+        }
+    }
+
+    @Test
+    @DisplayName("Should list low stock by shortage and group reorders by supplier")
+    void testLowStockAndReorders() {
+        // Given
+        ReportService reports = new ReportService(2);
+
+        // When
+        List<ProductStockRow> lowStock = reports.getLowStockRows(catalog);
+        ReorderList reorderList = reports.getReorderList(catalog);
+
+        // Then - shortages: Adapter 4, Desk 2, Chair 0
+        assertEquals(List.of(2, 3, 4), lowStock.stream().map(ProductStockRow::getProductId).toList());
+        assertEquals(2, reorderList.getOrders().size());
+        ReorderList.SupplierOrder first = reorderList.getOrders().get(0);
+        assertEquals("Supplier 2", first.getSupplierName());
+        assertEquals(List.of(8, 1), first.getLines().stream().map(ReorderList.Line::getSuggestedQuantity).toList());
+        assertEquals(new BigDecimal("60.00"), first.getSubtotal());
+        assertEquals(new BigDecimal("360.00"), reorderList.getTotalCost());
+        assertEquals(3, reorderList.getProductCount());
+    }
+}
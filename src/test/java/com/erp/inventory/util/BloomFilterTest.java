@@ -0,0 +1,66 @@
+package com.erp.inventory.util;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should find every added string")
+    void testNoFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("SKU-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("SKU-" + i));
+        }
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate")
+    void testFalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("SKU-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("NEW-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then - allow twice the configured rate
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should report saturation past the expected insertions")
+    void testSaturation() {
+        // Given
+        BloomFilter filter = new BloomFilter(2, 0.01);
+
+        // When
+        filter.add("A");
+        filter.add("B");
+        filter.add("C");
+
+        // Then
+        assertTrue(filter.isSaturated());
+        assertEquals(3, filter.getInsertionCount());
+    }
+}
@@ -0,0 +1,232 @@
+package com.erp.inventory.util;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConnectionPool
+ * Uses H2 in-memory database for testing
+ */
+class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", "sa");
+        connectionProperties.setProperty("password", "");
+
+        pool = new ConnectionPool("jdbc:h2:mem:pooltest;DB_CLOSE_DELAY=-1", connectionProperties,
+                1, 2, 60_000, 200, 5, 0, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should open minimum connections on start")
+    void testMinimumConnections() {
+        assertEquals(1, pool.getTotalConnections());
+        assertEquals(1, pool.getIdleConnections());
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("Should reuse the physical connection after close")
+    void testConnectionReturnedOnClose() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            assertFalse(connection.isClosed());
+            assertEquals(1, pool.getActiveConnections());
+        }
+
+        try (Connection connection = pool.getConnection()) {
+            assertFalse(connection.isClosed());
+        }
+
+        assertEquals(1, pool.getTotalConnections());
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("Should time out when the pool is exhausted")
+    void testBorrowTimesOutWhenExhausted() throws SQLException {
+        try (Connection first = pool.getConnection();
+             Connection second = pool.getConnection()) {
+
+            assertEquals(2, pool.getTotalConnections());
+            assertThrows(SQLException.class, () -> pool.getConnection());
+        }
+
+        assertEquals(2, pool.getIdleConnections());
+    }
+
+    @Test
+    @DisplayName("Should never hold more than max size connections while refilling")
+    void testRefillStaysWithinMaxSize() throws Exception {
+        // Given - min equals max and the evictor refills every millisecond
+        pool.shutdown();
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", "sa");
+        connectionProperties.setProperty("password", "");
+        pool = new ConnectionPool("jdbc:h2:mem:pooltest;DB_CLOSE_DELAY=-1", connectionProperties,
+                2, 2, 0, 5_000, 5, 1, 2);
+
+        // When - borrowers break connections so they are discarded and reopened
+        AtomicInteger mostOpen = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    try (Connection connection = pool.getConnection()) {
+                        mostOpen.accumulateAndGet(pool.getTotalConnections(), Math::max);
+                        if (i % 3 == 0) {
+                            connection.unwrap(Connection.class).close();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertTrue(mostOpen.get() <= 2, "Most connections open: " + mostOpen.get());
+        assertTrue(pool.getTotalConnections() <= 2);
+    }
+
+    @Test
+    @DisplayName("Should reject use of a closed handle")
+    void testClosedHandleIsUnusable() throws SQLException {
+        Connection connection = pool.getConnection();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+
+        // Closing twice must not return the connection twice
+        connection.close();
+        assertEquals(1, pool.getIdleConnections());
+    }
+
+    @Test
+    @DisplayName("Should roll back and restore auto-commit on return")
+    void testConnectionResetOnReturn() throws SQLException {
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS pool_reset (id INT)");
+            stmt.execute("DELETE FROM pool_reset");
+        }
+
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            stmt.execute("INSERT INTO pool_reset VALUES (1)");
+        }
+
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            assertTrue(connection.getAutoCommit());
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM pool_reset")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse cached prepared statements on the same connection")
+    void testStatementCacheHits() throws SQLException {
+        String sql = "SELECT ? FROM DUAL";
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.getConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setInt(1, i);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(i, rs.getInt(1));
+                }
+            }
+        }
+
+        assertEquals(1, pool.getStatementCacheMisses());
+        assertEquals(2, pool.getStatementCacheHits());
+    }
+
+    @Test
+    @DisplayName("Should close a result set left open when the statement is returned")
+    void testOpenResultSetClosedOnReturn() throws SQLException {
+        String sql = "SELECT ? FROM DUAL";
+        ResultSet leftOpen;
+
+        try (Connection connection = pool.getConnection()) {
+            PreparedStatement stmt = connection.prepareStatement(sql);
+            stmt.setInt(1, 1);
+            leftOpen = stmt.executeQuery();
+            assertTrue(leftOpen.next());
+            stmt.close();
+        }
+
+        assertTrue(leftOpen.isClosed());
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, 2);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt(1));
+            }
+        }
+        assertEquals(1, pool.getStatementCacheHits());
+    }
+
+    @Test
+    @DisplayName("Should prepare a separate statement when the cached one is in use")
+    void testNestedStatementNotShared() throws SQLException {
+        String sql = "SELECT ? FROM DUAL";
+
+        try (Connection connection = pool.getConnection();
+             PreparedStatement outer = connection.prepareStatement(sql);
+             PreparedStatement inner = connection.prepareStatement(sql)) {
+
+            assertNotSame(outer, inner);
+            outer.setInt(1, 1);
+            inner.setInt(1, 2);
+            try (ResultSet rs = outer.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+            }
+        }
+
+        assertEquals(2, pool.getStatementCacheMisses());
+    }
+
+    @Test
+    @DisplayName("Should reject borrows after shutdown")
+    void testShutdown() {
+        pool.shutdown();
+
+        assertEquals(0, pool.getTotalConnections());
+        assertThrows(SQLException.class, () -> pool.getConnection());
+    }
+}
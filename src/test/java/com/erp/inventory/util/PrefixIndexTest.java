@@ -0,0 +1,75 @@
+package com.erp.inventory.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrefixIndex
+ */
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Map<Integer, String> names = new HashMap<>();
+        names.put(1, "Widget Pro");
+        names.put(2, "widget");
+        names.put(3, "Café  Supplies");
+        names.put(4, "Wire Spool");
+        names.put(5, "Gadget");
+        index = PrefixIndex.build(names);
+    }
+
+    private List<Integer> ids(List<PrefixIndex.Completion> completions) {
+        return completions.stream().map(PrefixIndex.Completion::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should complete normalized prefixes in name order up to the limit")
+    void testComplete() {
+        // When & Then
+        assertEquals(List.of(2, 1, 4), ids(index.complete("WI", 10)));
+        assertEquals(List.of(2, 1), ids(index.complete("wi", 2)));
+        assertEquals(List.of(1), ids(index.complete(" widget   p", 10)));
+        assertEquals(List.of(3), ids(index.complete("cafe s", 10)));
+        assertEquals("Café  Supplies", index.complete("caf", 1).get(0).getName());
+        assertTrue(index.complete("zz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return new indexes on changes and leave the original intact")
+    void testCopyOnWrite() {
+        // When
+        PrefixIndex changed = index.with(6, "Winch")
+                                   .with(1, "Gizmo")
+                                   .without(4);
+
+        // Then
+        assertEquals(List.of(2, 6), ids(changed.complete("wi", 10)));
+        assertEquals(List.of(5, 1), ids(changed.complete("g", 10)));
+        assertEquals(5, changed.size());
+        assertEquals(List.of(2, 1, 4), ids(index.complete("wi", 10)));
+        assertSame(changed, changed.without(99));
+    }
+
+    @Test
+    @DisplayName("Should keep the order when renaming entries forward, backward and in place")
+    void testRename() {
+        // When
+        PrefixIndex changed = index.with(5, "Zip Tie")
+                                   .with(4, "Anchor")
+                                   .with(2, "Widget");
+
+        // Then
+        assertEquals(List.of(4, 3, 2, 1, 5), ids(changed.complete("", 10)));
+        assertEquals("Widget", changed.complete("widget", 1).get(0).getName());
+        assertEquals(5, changed.size());
+    }
+}
@@ -0,0 +1,186 @@
+package com.erp.inventory.util;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionManager
+ * Uses H2 in-memory database for testing
+ */
+class TransactionManagerTest {
+
+    @BeforeAll
+    static void setupDatabase() throws SQLException {
+        DatabaseUtil.setTestConfiguration(
+            "jdbc:h2:mem:transactionmanagerdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "sa",
+            ""
+        );
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE items (name VARCHAR(50) NOT NULL)");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        DatabaseUtil.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM items");
+        }
+    }
+
+    private static void insert(String name) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("INSERT INTO items (name) VALUES ('" + name + "')");
+        }
+    }
+
+    private static int countCommitted() throws SQLException {
+        // Read on a connection of its own, outside any unit of work
+        try (Connection connection = DatabaseUtil.getConnectionPool().getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM items")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should commit the work when the callback returns")
+    void testCommit() throws SQLException {
+        // When
+        String result = TransactionManager.inTransaction(() -> {
+            insert("first");
+            insert("second");
+            assertEquals(0, countCommitted());
+            return "done";
+        });
+
+        // Then
+        assertEquals("done", result);
+        assertEquals(2, countCommitted());
+        assertFalse(TransactionManager.isActive());
+    }
+
+    @Test
+    @DisplayName("Should roll back the work and rethrow when the callback throws")
+    void testRollbackOnException() {
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            TransactionManager.inTransaction(() -> {
+                insert("first");
+                throw new IllegalStateException("Simulated failure");
+            }));
+
+        // Then
+        assertEquals("Simulated failure", thrown.getMessage());
+        assertDoesNotThrow(() -> assertEquals(0, countCommitted()));
+        assertFalse(TransactionManager.isActive());
+    }
+
+    @Test
+    @DisplayName("Should join the outer unit of work from a nested call")
+    void testNestedJoinsOuter() throws SQLException {
+        // When - the nested call shares the connection and its work rolls back with the outer one
+        List<Connection> connections = new ArrayList<>();
+        assertThrows(SQLException.class, () -> TransactionManager.inTransaction(() -> {
+            connections.add(TransactionManager.currentConnection());
+            TransactionManager.inTransaction(() -> {
+                connections.add(TransactionManager.currentConnection());
+                insert("nested");
+                return null;
+            });
+            assertEquals(0, countCommitted());
+            throw new SQLException("Simulated failure");
+        }));
+
+        // Then
+        assertSame(connections.get(0), connections.get(1));
+        assertEquals(0, countCommitted());
+    }
+
+    @Test
+    @DisplayName("Should run completion callbacks once, after commit or rollback")
+    void testAfterCompletionRunsOnce() throws SQLException {
+        // Given
+        List<String> events = new ArrayList<>();
+
+        // When - committed, with a callback registered from a nested call
+        TransactionManager.inTransaction(() -> {
+            insert("first");
+            TransactionManager.afterCompletion(() -> events.add("completed with " + countQuietly()));
+            TransactionManager.inTransaction(() -> {
+                TransactionManager.afterCommit(() -> events.add("committed"));
+                return null;
+            });
+            assertTrue(events.isEmpty());
+            return null;
+        });
+
+        // Then
+        assertEquals(List.of("committed", "completed with 1"), events);
+
+        // When - rolled back
+        events.clear();
+        assertThrows(SQLException.class, () -> TransactionManager.inTransaction(() -> {
+            insert("second");
+            TransactionManager.afterCompletion(() -> events.add("completed with " + countQuietly()));
+            TransactionManager.afterCommit(() -> events.add("committed"));
+            throw new SQLException("Simulated failure");
+        }));
+
+        // Then
+        assertEquals(List.of("completed with 1"), events);
+    }
+
+    @Test
+    @DisplayName("Should keep transaction control with the unit of work but allow savepoints")
+    void testSharedConnectionGuards() throws SQLException {
+        TransactionManager.inTransaction(() -> {
+            Connection connection = DatabaseUtil.getConnection();
+
+            // Then - commit, rollback and auto-commit changes are rejected
+            assertThrows(SQLException.class, connection::commit);
+            assertThrows(SQLException.class, connection::rollback);
+            assertThrows(SQLException.class, () -> connection.setAutoCommit(true));
+
+            // Then - rolling back to a savepoint stays inside the unit of work
+            insert("kept");
+            Savepoint savepoint = connection.setSavepoint();
+            insert("undone");
+            connection.rollback(savepoint);
+
+            // Then - close is ignored
+            connection.close();
+            assertFalse(connection.isClosed());
+            return null;
+        });
+
+        assertEquals(1, countCommitted());
+    }
+
+    private static int countQuietly() {
+        try {
+            return countCommitted();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}